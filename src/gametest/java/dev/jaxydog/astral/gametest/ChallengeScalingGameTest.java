@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.gametest;
+
+import com.google.gson.JsonObject;
+import dev.jaxydog.astral.content.AstralGamerules;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameRules.BooleanRule;
+import net.minecraft.world.Heightmap;
+
+import java.util.List;
+
+/**
+ * Measures the server tick overhead of challenge scaling.
+ * <p>
+ * This spawns {@value #MOB_COUNT} scaled hostile mobs in rings at increasing distances from the world spawn, then
+ * records the average tick duration with challenge scaling disabled and enabled. The results are written to a
+ * {@code challenge-scaling.json} report so that regressions can be tracked across releases.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class ChallengeScalingGameTest implements FabricGameTest {
+
+    /**
+     * The number of spawned mobs.
+     *
+     * @since 2.3.0
+     */
+    public static final int MOB_COUNT = 2_000;
+    /**
+     * The command tag given to all spawned mobs.
+     *
+     * @since 2.3.0
+     */
+    public static final String MOB_TAG = "astral_challenge_benchmark";
+
+    /**
+     * The number of rings that mobs are spawned in.
+     *
+     * @since 2.3.0
+     */
+    private static final int RINGS = 8;
+    /**
+     * The number of chunk clusters within each ring.
+     *
+     * @since 2.3.0
+     */
+    private static final int CLUSTERS_PER_RING = 4;
+    /**
+     * The distance between each ring, in chunks.
+     *
+     * @since 2.3.0
+     */
+    private static final int RING_SPACING = 16;
+    /**
+     * The number of ticks to wait before recording each mode.
+     *
+     * @since 2.3.0
+     */
+    private static final int WARMUP_TICKS = 100;
+    /**
+     * The number of ticks recorded for each mode.
+     *
+     * @since 2.3.0
+     */
+    private static final int SAMPLE_TICKS = 200;
+    /**
+     * The spawned mob types, all of which are included in the challenge scaling tag and do not burn in daylight.
+     *
+     * @since 2.3.0
+     */
+    private static final List<EntityType<? extends MobEntity>> MOB_TYPES = List.of(EntityType.HUSK,
+        EntityType.CREEPER,
+        EntityType.SPIDER,
+        EntityType.WITCH,
+        EntityType.PILLAGER
+    );
+
+    /**
+     * Runs the challenge scaling benchmark.
+     *
+     * @param context The test context.
+     *
+     * @since 2.3.0
+     */
+    @GameTest(templateName = EMPTY_STRUCTURE, tickLimit = 2 * (WARMUP_TICKS + SAMPLE_TICKS) + 20)
+    public void challengeScalingTickCost(TestContext context) {
+        final ServerWorld world = context.getWorld();
+        final BooleanRule rule = world.getGameRules().get(AstralGamerules.CHALLENGE_ENABLED);
+        final boolean wasEnabled = rule.get();
+        final LongSet chunks = new LongOpenHashSet();
+        final List<MobEntity> mobs = this.spawnMobs(world, chunks);
+
+        final TickRecorder disabled = new TickRecorder();
+        final TickRecorder enabled = new TickRecorder();
+
+        rule.set(false, world.getServer());
+
+        context.runAtTick(WARMUP_TICKS, disabled::start);
+        context.runAtTick(WARMUP_TICKS + SAMPLE_TICKS, () -> {
+            disabled.stop();
+            rule.set(true, world.getServer());
+        });
+        context.runAtTick(2 * WARMUP_TICKS + SAMPLE_TICKS, enabled::start);
+        context.runAtTick(2 * (WARMUP_TICKS + SAMPLE_TICKS), () -> {
+            enabled.stop();
+            rule.set(wasEnabled, world.getServer());
+
+            final int alive = (int) mobs.stream().filter(MobEntity::isAlive).count();
+
+            mobs.forEach(MobEntity::discard);
+
+            for (final long chunk : chunks) {
+                world.setChunkForced(ChunkPos.getPackedX(chunk), ChunkPos.getPackedZ(chunk), false);
+            }
+
+            final JsonObject report = new JsonObject();
+            final double overhead = enabled.getAverageMillis() - disabled.getAverageMillis();
+
+            report.addProperty("mobs", mobs.size());
+            report.addProperty("aliveMobs", alive);
+            report.addProperty("maxSpawnDistance", (RINGS - 1) * RING_SPACING * 16);
+            report.add("disabled", disabled.toJson());
+            report.add("enabled", enabled.toJson());
+            report.addProperty("overheadTickMs", overhead);
+            report.addProperty("overheadPerMobNs", overhead * 1_000_000D / Math.max(mobs.size(), 1));
+
+            GameTestReports.write("challenge-scaling", report);
+
+            if (alive < mobs.size()) {
+                final String message = "%d of %d mobs died during the benchmark";
+
+                context.throwGameTestException(message.formatted(mobs.size() - alive, mobs.size()));
+            }
+
+            context.complete();
+        });
+    }
+
+    /**
+     * Spawns all benchmarked mobs, forcing the chunks that they are spawned within to remain loaded.
+     * <p>
+     * Mobs are placed in clusters around the world spawn, with each cluster occupying a single chunk and each mob
+     * having its own column within that chunk to avoid entity cramming.
+     *
+     * @param world The server world.
+     * @param chunks The set that forced chunk positions are added to.
+     *
+     * @return The spawned mobs.
+     *
+     * @since 2.3.0
+     */
+    private List<MobEntity> spawnMobs(ServerWorld world, LongSet chunks) {
+        final ChunkPos spawn = new ChunkPos(world.getSpawnPos());
+        final int clusters = RINGS * CLUSTERS_PER_RING;
+        final List<MobEntity> mobs = new ObjectArrayList<>(MOB_COUNT);
+
+        for (int index = 0; index < MOB_COUNT; index += 1) {
+            final int cluster = index % clusters;
+            final int slot = index / clusters;
+            final int ring = cluster / CLUSTERS_PER_RING;
+            final int side = cluster % CLUSTERS_PER_RING;
+
+            // Each cluster is placed on one of the four cardinal directions, at the ring's distance.
+            final int offset = ring * RING_SPACING;
+            final int chunkX = spawn.x + (side == 0 ? offset : side == 1 ? -offset : 0);
+            final int chunkZ = spawn.z + (side == 2 ? offset : side == 3 ? -offset : 0);
+
+            if (chunks.add(ChunkPos.toLong(chunkX, chunkZ))) {
+                world.setChunkForced(chunkX, chunkZ, true);
+                world.getChunk(chunkX, chunkZ);
+            }
+
+            final int x = (chunkX << 4) + ((slot % 8) * 2);
+            final int z = (chunkZ << 4) + ((slot / 8) * 2);
+            final BlockPos pos = world.getTopPosition(Heightmap.Type.MOTION_BLOCKING, new BlockPos(x, 0, z));
+            final MobEntity mob = MOB_TYPES.get(index % MOB_TYPES.size()).create(world);
+
+            if (mob == null) continue;
+
+            mob.refreshPositionAndAngles(pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D, 0F, 0F);
+            mob.setAiDisabled(true);
+            mob.setPersistent();
+            mob.addCommandTag(MOB_TAG);
+
+            if (world.spawnEntity(mob)) mobs.add(mob);
+        }
+
+        return mobs;
+    }
+
+}
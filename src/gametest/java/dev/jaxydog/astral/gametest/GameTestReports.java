@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import dev.jaxydog.astral.Astral;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes machine-readable game test reports.
+ * <p>
+ * Reports are written to the directory specified by the {@value #DIRECTORY_PROPERTY} system property, falling back to
+ * a {@code reports} directory within the game directory.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public final class GameTestReports {
+
+    /**
+     * The system property that specifies the report directory.
+     *
+     * @since 2.3.0
+     */
+    public static final String DIRECTORY_PROPERTY = "astral.gametest.report-dir";
+
+    /**
+     * The GSON instance used to write reports.
+     *
+     * @since 2.3.0
+     */
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 2.3.0
+     */
+    private GameTestReports() {}
+
+    /**
+     * Returns the directory that reports are written to.
+     *
+     * @return The report directory.
+     *
+     * @since 2.3.0
+     */
+    public static Path getDirectory() {
+        final String directory = System.getProperty(DIRECTORY_PROPERTY);
+
+        if (directory != null && !directory.isBlank()) return Path.of(directory);
+
+        return FabricLoader.getInstance().getGameDir().resolve("reports");
+    }
+
+    /**
+     * Writes the given report as a JSON file, logging rather than throwing on failure.
+     *
+     * @param name The report's file name, excluding its extension.
+     * @param report The report.
+     *
+     * @since 2.3.0
+     */
+    public static void write(String name, JsonObject report) {
+        final Path path = getDirectory().resolve(name + ".json");
+
+        try {
+            Files.createDirectories(path.getParent());
+
+            try (final Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                GSON.toJson(report, writer);
+            }
+
+            Astral.LOGGER.info("Wrote game test report to '{}'", path);
+        } catch (IOException exception) {
+            Astral.LOGGER.warn("Failed to write game test report '{}': {}", path, exception.getLocalizedMessage());
+        }
+    }
+
+}
@@ -0,0 +1,403 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.gametest;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.jaxydog.astral.Astral;
+import dev.jaxydog.astral.content.item.AstralItems;
+import dev.jaxydog.astral.content.item.custom.SprayBottleItem;
+import dev.jaxydog.astral.content.item.custom.Sprayed.BlockTarget;
+import dev.jaxydog.astral.content.item.custom.Sprayed.EntityTarget;
+import dev.jaxydog.astral.content.item.custom.Sprayed.Source;
+import dev.jaxydog.astral.content.power.AstralPowerFactory;
+import dev.jaxydog.astral.content.power.custom.ActionOnSprayPower;
+import dev.jaxydog.astral.content.power.custom.ActionWhenSprayedPower;
+import io.github.apace100.apoli.component.PowerHolderComponent;
+import io.github.apace100.apoli.power.Power;
+import io.github.apace100.apoli.power.PowerType;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.DispenserBlock;
+import net.minecraft.block.entity.DispenserBlockEntity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Measures the cost of spraying.
+ * <p>
+ * The dispatch test times spraying an entity and a block with an increasing number of
+ * {@code astral:action_on_spray} and {@code astral:action_when_sprayed} powers. The dispenser test runs a clock of
+ * {@value #DISPENSER_COUNT} dispensers that spray farmland and copper, recording the average tick duration with empty
+ * dispensers and with spray bottles. The results are written to {@code spray-dispatch.json} and
+ * {@code spray-dispensers.json} reports.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class SprayGameTest implements FabricGameTest {
+
+    /**
+     * The number of dispensers within the spray clock.
+     *
+     * @since 2.3.0
+     */
+    public static final int DISPENSER_COUNT = 64;
+
+    /**
+     * The number of dispensers within each row of the spray clock, each followed by its target to the east.
+     *
+     * @since 2.3.0
+     */
+    private static final int ROW_LENGTH = 4;
+    /**
+     * The number of rows within each layer of the spray clock.
+     *
+     * @since 2.3.0
+     */
+    private static final int ROW_COUNT = 8;
+    /**
+     * The height of each layer of the spray clock, which holds a dispenser, the redstone block above it, and a gap so
+     * that the next layer is not powered.
+     *
+     * @since 2.3.0
+     */
+    private static final int LAYER_HEIGHT = 3;
+    /**
+     * The number of ticks between each pulse of the spray clock.
+     *
+     * @since 2.3.0
+     */
+    private static final int PULSE_INTERVAL = 8;
+    /**
+     * The number of ticks to wait before recording each mode.
+     *
+     * @since 2.3.0
+     */
+    private static final int WARMUP_TICKS = 100;
+    /**
+     * The number of ticks recorded for each mode.
+     *
+     * @since 2.3.0
+     */
+    private static final int SAMPLE_TICKS = 1_200;
+    /**
+     * The number of times that each dispatch is run, both to warm up and to measure.
+     *
+     * @since 2.3.0
+     */
+    private static final int DISPATCH_ITERATIONS = 10_000;
+    /**
+     * The number of powers given to both the actor and target for each dispatch measurement, in increasing order.
+     *
+     * @since 2.3.0
+     */
+    private static final int[] POWER_COUNTS = { 0, 5, 20 };
+    /**
+     * The source identifier of all granted powers.
+     *
+     * @since 2.3.0
+     */
+    private static final Identifier POWER_SOURCE = Astral.getId("gametest");
+    /**
+     * An action that does nothing, used to ensure that all granted powers match.
+     *
+     * @since 2.3.0
+     */
+    private static final String EMPTY_ACTION = "{ \"type\": \"apoli:and\", \"actions\": [] }";
+
+    /**
+     * Runs the spray dispatch benchmark.
+     *
+     * @param context The test context.
+     *
+     * @since 2.3.0
+     */
+    @GameTest(templateName = EMPTY_STRUCTURE)
+    public void sprayDispatchCost(TestContext context) {
+        final ServerWorld world = context.getWorld();
+        final SprayBottleItem item = AstralItems.SPRAY_BOTTLE;
+        final BlockPos pos = context.getAbsolutePos(new BlockPos(1, 2, 1));
+        final ArmorStandEntity actor = context.spawnEntity(EntityType.ARMOR_STAND, new BlockPos(0, 2, 0));
+        final ArmorStandEntity target = context.spawnEntity(EntityType.ARMOR_STAND, new BlockPos(2, 2, 0));
+
+        world.setBlockState(pos, Blocks.FARMLAND.getDefaultState());
+
+        final Source source = new Source(item.getDefaultStack(), actor);
+        final EntityTarget entityTarget = new EntityTarget(target);
+        final BlockTarget blockTarget = new BlockTarget(world, pos, Direction.UP);
+
+        final JsonObject onSpray = JsonParser.parseString("""
+            { "bientity_action": %1$s, "block_action": %1$s }
+            """.formatted(EMPTY_ACTION)).getAsJsonObject();
+        final JsonObject whenSprayed = JsonParser.parseString("""
+            { "bientity_action": %s }
+            """.formatted(EMPTY_ACTION)).getAsJsonObject();
+
+        final JsonObject report = new JsonObject();
+        int granted = 0;
+
+        for (final int count : POWER_COUNTS) {
+            this.grantPowers(actor, ActionOnSprayPower.getFactory(), onSpray, "on_spray", granted, count);
+            this.grantPowers(target, ActionWhenSprayedPower.getFactory(), whenSprayed, "when_sprayed", granted, count);
+
+            granted = count;
+
+            final JsonObject results = new JsonObject();
+
+            results.addProperty("entityCanSprayNs", this.measure(() -> item.canSpray(source, entityTarget, 1)));
+            results.addProperty("entityOnSprayNs",
+                this.measure(() -> item.onSpray(source, entityTarget, true).charges() > 0)
+            );
+            results.addProperty("blockCanSprayNs", this.measure(() -> item.canSpray(source, blockTarget, 1)));
+            results.addProperty("blockOnSprayNs",
+                this.measure(() -> item.onSpray(source, blockTarget, true).charges() > 0)
+            );
+
+            report.add(Integer.toString(count), results);
+        }
+
+        actor.discard();
+        target.discard();
+        world.removeBlock(pos, false);
+
+        GameTestReports.write("spray-dispatch", report);
+
+        context.complete();
+    }
+
+    /**
+     * Runs the dispenser spray clock benchmark.
+     *
+     * @param context The test context.
+     *
+     * @since 2.3.0
+     */
+    @GameTest(templateName = EMPTY_STRUCTURE, tickLimit = 2 * (WARMUP_TICKS + SAMPLE_TICKS) + 20)
+    public void dispenserSprayTickCost(TestContext context) {
+        final ServerWorld world = context.getWorld();
+        final List<BlockPos> dispensers = new ObjectArrayList<>(DISPENSER_COUNT);
+        final List<BlockPos> targets = new ObjectArrayList<>(DISPENSER_COUNT);
+
+        // Dispensers are packed into two layers so that the clock fits within the empty structure's bounds.
+        for (int index = 0; index < DISPENSER_COUNT; index += 1) {
+            final int x = (index % ROW_LENGTH) * 2;
+            final int z = (index / ROW_LENGTH) % ROW_COUNT;
+            final int y = 1 + (index / (ROW_LENGTH * ROW_COUNT)) * LAYER_HEIGHT;
+            final BlockPos pos = context.getAbsolutePos(new BlockPos(x, y, z));
+
+            world.setBlockState(pos, Blocks.DISPENSER.getDefaultState().with(DispenserBlock.FACING, Direction.EAST));
+
+            dispensers.add(pos);
+            targets.add(pos.east());
+        }
+
+        this.resetTargets(world, targets);
+
+        final TickRecorder idle = new TickRecorder();
+        final TickRecorder spraying = new TickRecorder();
+        final AtomicLong charges = new AtomicLong();
+        final int phaseTicks = WARMUP_TICKS + SAMPLE_TICKS;
+
+        // The clock starts on the first tick, and alternates between powering and unpowering every dispenser.
+        for (int tick = 1; tick < 2 * phaseTicks; tick += PULSE_INTERVAL) {
+            context.runAtTick(tick, () -> {
+                charges.addAndGet(this.refillDispensers(world, dispensers));
+
+                this.resetTargets(world, targets);
+                this.setPowered(world, dispensers, true);
+            });
+            context.runAtTick(tick + (PULSE_INTERVAL / 2), () -> this.setPowered(world, dispensers, false));
+        }
+
+        context.runAtTick(WARMUP_TICKS, idle::start);
+        context.runAtTick(phaseTicks, () -> {
+            idle.stop();
+
+            for (final BlockPos pos : dispensers) {
+                if (world.getBlockEntity(pos) instanceof final DispenserBlockEntity dispenser) {
+                    dispenser.setStack(0, AstralItems.SPRAY_BOTTLE.getDefaultStack());
+                }
+            }
+        });
+        context.runAtTick(phaseTicks + WARMUP_TICKS, spraying::start);
+        context.runAtTick(2 * phaseTicks, () -> {
+            spraying.stop();
+
+            final long consumed = charges.get() + this.refillDispensers(world, dispensers);
+
+            for (int index = 0; index < DISPENSER_COUNT; index += 1) {
+                world.removeBlock(dispensers.get(index).up(), false);
+                world.removeBlock(targets.get(index), false);
+                world.removeBlock(dispensers.get(index), false);
+            }
+
+            final JsonObject report = new JsonObject();
+            final double overhead = spraying.getAverageMillis() - idle.getAverageMillis();
+            final double sprays = (double) DISPENSER_COUNT / PULSE_INTERVAL;
+
+            report.addProperty("dispensers", DISPENSER_COUNT);
+            report.addProperty("pulseInterval", PULSE_INTERVAL);
+            report.addProperty("consumedCharges", consumed);
+            report.add("idle", idle.toJson());
+            report.add("spraying", spraying.toJson());
+            report.addProperty("overheadTickMs", overhead);
+            report.addProperty("overheadPerSprayNs", overhead * 1_000_000D / sprays);
+
+            GameTestReports.write("spray-dispensers", report);
+
+            if (consumed == 0L) context.throwGameTestException("No charges were consumed by the spray clock");
+
+            context.complete();
+        });
+    }
+
+    /**
+     * Grants new powers to the given entity until it holds the given number of powers from the given factory.
+     *
+     * @param entity The entity.
+     * @param factory The power factory.
+     * @param data The data used to create each power.
+     * @param prefix The prefix of each power type's identifier.
+     * @param from The number of powers already granted.
+     * @param to The number of powers that should be granted.
+     * @param <P> The power's type.
+     *
+     * @since 2.3.0
+     */
+    private <P extends Power> void grantPowers(
+        LivingEntity entity, AstralPowerFactory<P> factory, JsonObject data, String prefix, int from, int to
+    ) {
+        final PowerHolderComponent component = PowerHolderComponent.KEY.get(entity);
+
+        for (int index = from; index < to; index += 1) {
+            final PowerType<P> type = new PowerType<>(Astral.getId("gametest/%s_%d".formatted(prefix, index)),
+                factory.read(data)
+            );
+
+            component.addPower(type, POWER_SOURCE);
+        }
+    }
+
+    /**
+     * Returns the average time, in nanoseconds, that it takes to run the given dispatch.
+     *
+     * @param dispatch The measured dispatch.
+     *
+     * @return The average time in nanoseconds.
+     *
+     * @since 2.3.0
+     */
+    private double measure(BooleanSupplier dispatch) {
+        int matched = 0;
+
+        for (int index = 0; index < DISPATCH_ITERATIONS; index += 1) {
+            if (dispatch.getAsBoolean()) matched += 1;
+        }
+
+        final long start = System.nanoTime();
+
+        for (int index = 0; index < DISPATCH_ITERATIONS; index += 1) {
+            if (dispatch.getAsBoolean()) matched += 1;
+        }
+
+        final long elapsed = System.nanoTime() - start;
+
+        // This should never happen, but ensures that the dispatch results are observed.
+        if (matched < 0) throw new IllegalStateException();
+
+        return (double) elapsed / DISPATCH_ITERATIONS;
+    }
+
+    /**
+     * Refills every dispenser's spray bottle, returning the number of charges that were consumed since the last refill.
+     *
+     * @param world The server world.
+     * @param dispensers The dispenser positions.
+     *
+     * @return The number of consumed charges.
+     *
+     * @since 2.3.0
+     */
+    private int refillDispensers(ServerWorld world, List<BlockPos> dispensers) {
+        final SprayBottleItem item = AstralItems.SPRAY_BOTTLE;
+        int consumed = 0;
+
+        for (final BlockPos pos : dispensers) {
+            if (!(world.getBlockEntity(pos) instanceof final DispenserBlockEntity dispenser)) continue;
+
+            final ItemStack stack = dispenser.getStack(0);
+
+            if (!stack.isOf(item)) continue;
+
+            consumed += item.getMaxCharges(stack) - item.getCharges(stack);
+
+            item.setCharges(stack, item.getMaxCharges(stack));
+        }
+
+        return consumed;
+    }
+
+    /**
+     * Resets every sprayed block, alternating between dry farmland and unoxidized copper.
+     *
+     * @param world The server world.
+     * @param targets The sprayed block positions.
+     *
+     * @since 2.3.0
+     */
+    private void resetTargets(ServerWorld world, List<BlockPos> targets) {
+        for (int index = 0; index < targets.size(); index += 1) {
+            final boolean farmland = index % 2 == 0;
+
+            world.setBlockState(targets.get(index),
+                farmland ? Blocks.FARMLAND.getDefaultState() : Blocks.COPPER_BLOCK.getDefaultState()
+            );
+        }
+    }
+
+    /**
+     * Powers or unpowers every dispenser by placing or removing a redstone block above it.
+     *
+     * @param world The server world.
+     * @param dispensers The dispenser positions.
+     * @param powered Whether the dispensers should be powered.
+     *
+     * @since 2.3.0
+     */
+    private void setPowered(ServerWorld world, List<BlockPos> dispensers, boolean powered) {
+        for (final BlockPos pos : dispensers) {
+            if (powered) {
+                world.setBlockState(pos.up(), Blocks.REDSTONE_BLOCK.getDefaultState());
+            } else {
+                world.removeBlock(pos.up(), false);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.gametest;
+
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of each server tick while active.
+ * <p>
+ * Only one recorder may be active at a time. Tick listeners are registered once, the first time that a recorder is
+ * started, and do nothing while no recorder is active.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public final class TickRecorder {
+
+    /**
+     * The currently active recorder.
+     *
+     * @since 2.3.0
+     */
+    private static TickRecorder active = null;
+    /**
+     * Whether the tick listeners have been registered.
+     *
+     * @since 2.3.0
+     */
+    private static boolean registered = false;
+
+    /**
+     * The recorded tick durations, in nanoseconds.
+     *
+     * @since 2.3.0
+     */
+    private final LongArrayList samples = new LongArrayList();
+    /**
+     * The time at which the current tick started, or {@code -1} if no tick is in progress.
+     *
+     * @since 2.3.0
+     */
+    private long tickStart = -1L;
+
+    /**
+     * Registers the tick listeners if they have not been registered already.
+     *
+     * @since 2.3.0
+     */
+    private static void register() {
+        if (registered) return;
+
+        registered = true;
+
+        ServerTickEvents.START_SERVER_TICK.register(server -> {
+            if (active != null) active.tickStart = System.nanoTime();
+        });
+        ServerTickEvents.END_SERVER_TICK.register(server -> {
+            if (active == null || active.tickStart < 0L) return;
+
+            active.samples.add(System.nanoTime() - active.tickStart);
+            active.tickStart = -1L;
+        });
+    }
+
+    /**
+     * Starts recording ticks, replacing any currently active recorder.
+     *
+     * @since 2.3.0
+     */
+    public void start() {
+        register();
+
+        this.tickStart = -1L;
+
+        active = this;
+    }
+
+    /**
+     * Stops recording ticks.
+     *
+     * @since 2.3.0
+     */
+    public void stop() {
+        if (active == this) active = null;
+
+        this.tickStart = -1L;
+    }
+
+    /**
+     * Returns the number of recorded ticks.
+     *
+     * @return The number of samples.
+     *
+     * @since 2.3.0
+     */
+    public int getSampleCount() {
+        return this.samples.size();
+    }
+
+    /**
+     * Returns the average recorded tick duration, in milliseconds.
+     *
+     * @return The average tick duration.
+     *
+     * @since 2.3.0
+     */
+    public double getAverageMillis() {
+        if (this.samples.isEmpty()) return 0D;
+
+        long total = 0L;
+
+        for (int index = 0; index < this.samples.size(); index += 1) {
+            total += this.samples.getLong(index);
+        }
+
+        return toMillis(total) / this.samples.size();
+    }
+
+    /**
+     * Returns the given percentile of the recorded tick durations, in milliseconds.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 1}.
+     *
+     * @return The tick duration at the given percentile.
+     *
+     * @since 2.3.0
+     */
+    public double getPercentileMillis(double percentile) {
+        if (this.samples.isEmpty()) return 0D;
+
+        final long[] sorted = this.samples.toLongArray();
+
+        Arrays.sort(sorted);
+
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+
+        return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    /**
+     * Converts the given number of nanoseconds into fractional milliseconds.
+     *
+     * @param nanos The number of nanoseconds.
+     *
+     * @return The number of milliseconds.
+     *
+     * @since 2.3.0
+     */
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1L);
+    }
+
+    /**
+     * Returns a JSON summary of the recorded ticks.
+     *
+     * @return A JSON object.
+     *
+     * @since 2.3.0
+     */
+    public JsonObject toJson() {
+        final JsonObject object = new JsonObject();
+
+        object.addProperty("samples", this.getSampleCount());
+        object.addProperty("averageTickMs", this.getAverageMillis());
+        object.addProperty("p50TickMs", this.getPercentileMillis(0.5D));
+        object.addProperty("p95TickMs", this.getPercentileMillis(0.95D));
+        object.addProperty("maxTickMs", this.getPercentileMillis(1D));
+
+        return object;
+    }
+
+}
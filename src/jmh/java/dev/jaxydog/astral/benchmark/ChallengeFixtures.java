@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.utility.ChallengeHelper.BoxShape;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeZone;
+import dev.jaxydog.astral.utility.ChallengeHelper.CylinderShape;
+import dev.jaxydog.astral.utility.ChallengeHelper.PolygonShape;
+import dev.jaxydog.astral.utility.ChallengeHelper.ZoneCurve;
+import dev.jaxydog.astral.utility.ChallengeHelper.ZoneIndex;
+import dev.jaxydog.astral.utility.ChallengeHelper.ZoneShape;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.World;
+
+import java.util.List;
+
+/**
+ * Provides synthetic challenge settings, zones, and positions for benchmarks.
+ * <p>
+ * Settings are built from explicit gamerule values rather than read from a world, and zones are generated with a
+ * fixed seed so that every fork measures the same layout.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public final class ChallengeFixtures {
+
+    /**
+     * The distance from the origin that generated zones and positions are placed within.
+     *
+     * @since 2.3.0
+     */
+    public static final int RADIUS = 20_000;
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 2.3.0
+     */
+    private ChallengeFixtures() {}
+
+    /**
+     * Creates challenge settings for the overworld, as if read from a world with the given gamerules.
+     *
+     * @param chunkStep The configured chunk step.
+     * @param attackAdditive The configured attack additive.
+     * @param healthAdditive The configured health additive.
+     * @param zones The number of challenge zones.
+     *
+     * @return New challenge settings.
+     *
+     * @since 2.3.0
+     */
+    public static ChallengeSettings createSettings(
+        int chunkStep,
+        double attackAdditive,
+        double healthAdditive,
+        int zones
+    ) {
+        final ZoneIndex index = new ZoneIndex(createZones(zones, 0L));
+
+        return new ChallengeSettings(0,
+            true,
+            Math.max(chunkStep, 1),
+            attackAdditive,
+            healthAdditive,
+            true,
+            new BlockPos(128, 63, -256),
+            true,
+            false,
+            1,
+            index.getLayer(World.OVERWORLD)
+        );
+    }
+
+    /**
+     * Creates a list of randomly placed and sized overworld zones, using an even mix of each shape.
+     *
+     * @param count The number of zones.
+     * @param seed The random seed.
+     *
+     * @return A list of zones.
+     *
+     * @since 2.3.0
+     */
+    public static List<ChallengeZone> createZones(int count, long seed) {
+        final Random random = Random.create(seed);
+        final List<ChallengeZone> zones = new ObjectArrayList<>(count);
+
+        for (int index = 0; index < count; index += 1) {
+            final double x = random.nextBetween(-RADIUS, RADIUS);
+            final double z = random.nextBetween(-RADIUS, RADIUS);
+            final double size = random.nextBetween(16, 1024);
+            final ZoneShape shape = switch (index % 3) {
+                case 0 -> new BoxShape(x - size, z - size, x + size, z + size);
+                case 1 -> new CylinderShape(x, z, size);
+                default -> new PolygonShape(
+                    new double[] { x - size, x + size, x + (size / 2D), x - (size / 2D), x - size },
+                    new double[] { z - size, z - size, z + size, z + size, z }
+                );
+            };
+
+            zones.add(new ChallengeZone(new Identifier("benchmark", "zone_" + index),
+                World.OVERWORLD,
+                random.nextInt(4),
+                shape,
+                Integer.MIN_VALUE,
+                Integer.MAX_VALUE,
+                1D + random.nextDouble(),
+                1D + random.nextDouble(),
+                ZoneCurve.radial(shape)
+            ));
+        }
+
+        return zones;
+    }
+
+    /**
+     * Creates an array of random horizontal positions, stored as alternating X and Z values.
+     *
+     * @param count The number of positions.
+     * @param seed The random seed.
+     *
+     * @return An array of positions.
+     *
+     * @since 2.3.0
+     */
+    public static double[] createPositions(int count, long seed) {
+        final Random random = Random.create(seed);
+        final double[] positions = new double[count * 2];
+
+        for (int index = 0; index < positions.length; index += 1) {
+            positions[index] = (random.nextDouble() * 2D - 1D) * RADIUS;
+        }
+
+        return positions;
+    }
+
+}
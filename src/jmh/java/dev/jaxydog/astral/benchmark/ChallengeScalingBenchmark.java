@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.utility.ChallengeHelper;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeZone;
+import net.minecraft.util.math.MathHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the challenge scaling calculations performed for each scaled attack, explosion, and health lookup.
+ * <p>
+ * Entities cannot be created without a world, so each benchmark scales a position directly using the same
+ * position-based methods that the entity overloads delegate to. Positions are cycled between invocations to avoid
+ * measuring a single cached branch.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChallengeScalingBenchmark {
+
+    /**
+     * The number of positions cycled through, which must be a power of two.
+     *
+     * @since 2.3.0
+     */
+    private static final int POSITIONS = 4096;
+
+    /**
+     * The configured chunk step.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "1", "16" })
+    public int chunkStep;
+
+    /**
+     * The number of loaded challenge zones.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "0", "16", "1024" })
+    public int zoneCount;
+
+    /**
+     * The benchmarked settings.
+     *
+     * @since 2.3.0
+     */
+    private ChallengeSettings settings;
+
+    /**
+     * The benchmarked positions, stored as alternating X and Z values.
+     *
+     * @since 2.3.0
+     */
+    private double[] positions;
+
+    /**
+     * The index of the next position.
+     *
+     * @since 2.3.0
+     */
+    private int index;
+
+    /**
+     * Builds the settings and positions.
+     *
+     * @since 2.3.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.settings = ChallengeFixtures.createSettings(this.chunkStep, 1D, 1D, this.zoneCount);
+        this.positions = ChallengeFixtures.createPositions(POSITIONS, 1L);
+        this.index = 0;
+    }
+
+    /**
+     * Returns the index of the next position's X value.
+     *
+     * @return The next position's index.
+     *
+     * @since 2.3.0
+     */
+    private int next() {
+        this.index = (this.index + 1) & (POSITIONS - 1);
+
+        return this.index * 2;
+    }
+
+    /**
+     * Benchmarks the default radial scaling formula.
+     *
+     * @return The scaled additive.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public double scaledAdditive() {
+        final int index = this.next();
+        final int x = MathHelper.floor(this.positions[index]);
+        final int z = MathHelper.floor(this.positions[index + 1]);
+
+        return ChallengeHelper.getScaledAdditive(this.settings, x, z, this.settings.attackAdditive());
+    }
+
+    /**
+     * Benchmarks scaling an attack, including resolving the position's challenge zone.
+     *
+     * @return The scaled attack damage.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public float scaledAttack() {
+        final int index = this.next();
+        final double x = this.positions[index];
+        final double z = this.positions[index + 1];
+
+        return ChallengeHelper.getScaledAttack(this.settings, x, 64D, z, 3F);
+    }
+
+    /**
+     * Benchmarks scaling an explosion, including resolving the position's challenge zone.
+     *
+     * @return The scaled explosion power.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public float scaledExplosion() {
+        final int index = this.next();
+        final double x = this.positions[index];
+        final double z = this.positions[index + 1];
+
+        return ChallengeHelper.getScaledExplosion(this.settings, x, 64D, z, 25F, 3F);
+    }
+
+    /**
+     * Benchmarks resolving the challenge zone at a position.
+     *
+     * @return The found zone, or {@code null}.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public ChallengeZone zoneLookup() {
+        final int index = this.next();
+
+        return this.settings.zones().find(this.positions[index], 64D, this.positions[index + 1]);
+    }
+
+}
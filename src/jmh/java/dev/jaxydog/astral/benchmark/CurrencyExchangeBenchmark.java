@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.benchmark.CurrencyFixtures.InventoryShape;
+import dev.jaxydog.astral.utility.CurrencyHelper;
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencySnapshot;
+import dev.jaxydog.astral.utility.CurrencyHelper.ExchangeTransaction;
+import net.minecraft.entity.player.PlayerInventory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the currency exchange engine against synthetic inventories and currency tables.
+ * <p>
+ * Inventories are refilled before every invocation, since each exchange modifies the inventory that it runs on.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyExchangeBenchmark {
+
+    /**
+     * The number of units within the currency table.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "5", "50", "500" })
+    public int tableSize;
+
+    /**
+     * The shape of the benchmarked inventory.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "EMPTY", "MIXED", "ALL_CURRENCY", "FULL_STACKS" })
+    public InventoryShape shape;
+
+    /**
+     * The benchmarked currencies.
+     *
+     * @since 2.3.0
+     */
+    private CurrencySnapshot snapshot;
+
+    /**
+     * The benchmarked inventory, which has no owning player.
+     *
+     * @since 2.3.0
+     */
+    private PlayerInventory inventory;
+
+    /**
+     * Builds the currency table and inventory.
+     *
+     * @since 2.3.0
+     */
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        Fixtures.bootstrap();
+
+        this.snapshot = CurrencyFixtures.createSnapshot(this.tableSize);
+        this.inventory = new PlayerInventory(null);
+
+        CurrencySnapshot.publish(this.snapshot);
+    }
+
+    /**
+     * Refills the inventory before each invocation.
+     *
+     * @since 2.3.0
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        this.shape.fill(this.inventory, this.snapshot);
+    }
+
+    /**
+     * Benchmarks a complete exchange, including applying the planned changes.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public void tryExchange() {
+        CurrencyHelper.tryExchange(new ExchangeTransaction(null, this.inventory, this.snapshot));
+    }
+
+    /**
+     * Benchmarks planning unit exchanges.
+     *
+     * @return Whether the transaction was modified.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public boolean tryExchangeUnits() {
+        return CurrencyHelper.tryExchangeUnits(new ExchangeTransaction(null, this.inventory, this.snapshot));
+    }
+
+    /**
+     * Benchmarks planning reward exchanges.
+     *
+     * @return Whether the transaction was modified.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public boolean tryExchangeRewards() {
+        return CurrencyHelper.tryExchangeRewards(new ExchangeTransaction(null, this.inventory, this.snapshot));
+    }
+
+}
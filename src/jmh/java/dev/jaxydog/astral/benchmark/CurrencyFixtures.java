@@ -0,0 +1,243 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.utility.CurrencyHelper;
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencyMap;
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencySnapshot;
+import dev.jaxydog.astral.utility.CurrencyHelper.Reward;
+import dev.jaxydog.astral.utility.CurrencyHelper.Skeleton;
+import dev.jaxydog.astral.utility.CurrencyHelper.Unit;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides synthetic currency tables and inventories for benchmarks.
+ * <p>
+ * Currencies are built from vanilla items rather than loaded from data packs, so {@link Fixtures#bootstrap()} must
+ * be called before any table is created. Inventories are created without an owning player.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public final class CurrencyFixtures {
+
+    /**
+     * The namespaces that generated currencies are spread across.
+     *
+     * @since 2.3.0
+     */
+    public static final String[] NAMESPACES = { "alpha", "beta", "gamma", "delta" };
+
+    /**
+     * The number of distinct unit values within each namespace.
+     *
+     * @since 2.3.0
+     */
+    private static final int LADDER_HEIGHT = 8;
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 2.3.0
+     */
+    private CurrencyFixtures() {}
+
+    /**
+     * Returns a list of distinct, fully stackable items in a deterministic order.
+     *
+     * @return A list of stackable items.
+     *
+     * @since 2.3.0
+     */
+    private static List<Item> getStackableItems() {
+        return Registries.ITEM.stream()
+            .filter(item -> item != Items.AIR && item.getMaxCount() == 64)
+            .sorted(Comparator.comparing(Registries.ITEM::getId))
+            .toList();
+    }
+
+    /**
+     * Creates a currency snapshot containing the given number of units, spread across several namespaces.
+     * <p>
+     * Each namespace contains ladders of units valued at increasing powers of four, and each unit may be exchanged
+     * into the next namespace at a one-to-one rate. One reward and one skeleton is created for every five units.
+     *
+     * @param size The number of units.
+     *
+     * @return A new currency snapshot.
+     *
+     * @since 2.3.0
+     */
+    public static CurrencySnapshot createSnapshot(int size) {
+        final int extras = Math.max(1, size / 5);
+        final List<Item> items = getStackableItems();
+
+        if (items.size() < size + extras * 2) {
+            throw new IllegalArgumentException("Not enough stackable items for %d currencies".formatted(size));
+        }
+
+        final Map<Identifier, Unit> units = new Object2ObjectOpenHashMap<>(size);
+        final Map<Identifier, Reward> rewards = new Object2ObjectOpenHashMap<>(extras);
+        final Map<Identifier, Skeleton> skeletons = new Object2ObjectOpenHashMap<>(extras);
+        int offset = 0;
+
+        for (int index = 0; index < size; index += 1) {
+            final String namespace = NAMESPACES[index % NAMESPACES.length];
+            final String nextNamespace = NAMESPACES[(index + 1) % NAMESPACES.length];
+            final int value = 1 << (2 * ((index / NAMESPACES.length) % LADDER_HEIGHT));
+            final Identifier itemId = Registries.ITEM.getId(items.get(offset));
+            final Unit unit = new Unit(itemId, value, false, Map.of(nextNamespace, 1));
+
+            units.put(new Identifier(namespace, "unit_" + index), unit);
+
+            offset += 1;
+        }
+
+        final Identifier[] rewardIds = new Identifier[extras];
+
+        for (int index = 0; index < extras; index += 1) {
+            final String namespace = NAMESPACES[index % NAMESPACES.length];
+
+            rewardIds[index] = Registries.ITEM.getId(items.get(offset));
+            rewards.put(new Identifier(namespace, "reward_" + index), new Reward(rewardIds[index], 1 + (index % 7)));
+
+            offset += 1;
+        }
+
+        for (int index = 0; index < extras; index += 1) {
+            final String namespace = NAMESPACES[index % NAMESPACES.length];
+            final List<Identifier> requires = List.of(rewardIds[index], rewardIds[(index + 1) % extras]);
+            final Identifier itemId = Registries.ITEM.getId(items.get(offset));
+
+            skeletons.put(new Identifier(namespace, "skeleton_" + index), new Skeleton(itemId, requires));
+
+            offset += 1;
+        }
+
+        return new CurrencySnapshot(new CurrencyMap<>(units), new CurrencyMap<>(rewards), new CurrencyMap<>(skeletons));
+    }
+
+    /**
+     * Creates a stack of the given currency that may be automatically exchanged.
+     *
+     * @param item The currency item.
+     * @param count The stack's count.
+     *
+     * @return A new item stack.
+     *
+     * @since 2.3.0
+     */
+    public static ItemStack createCurrencyStack(Item item, int count) {
+        final ItemStack stack = new ItemStack(item, count);
+
+        stack.getOrCreateNbt().putBoolean(CurrencyHelper.EXCHANGE_KEY, true);
+
+        return stack;
+    }
+
+    /**
+     * The shapes of inventory used within benchmarks.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    public enum InventoryShape {
+
+        /**
+         * An inventory containing no items.
+         *
+         * @since 2.3.0
+         */
+        EMPTY,
+        /**
+         * An inventory containing a mix of currency and non-currency items.
+         *
+         * @since 2.3.0
+         */
+        MIXED,
+        /**
+         * An inventory containing only currency items.
+         *
+         * @since 2.3.0
+         */
+        ALL_CURRENCY,
+        /**
+         * An inventory containing thirty-six full stacks of the lowest-valued unit.
+         *
+         * @since 2.3.0
+         */
+        FULL_STACKS;
+
+        /**
+         * Replaces the contents of the given inventory with this shape.
+         *
+         * @param inventory The inventory.
+         * @param snapshot The currencies used to fill the inventory.
+         *
+         * @since 2.3.0
+         */
+        public void fill(PlayerInventory inventory, CurrencySnapshot snapshot) {
+            inventory.clear();
+
+            if (this == EMPTY) return;
+
+            final List<Unit> units = snapshot.units()
+                .entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .toList();
+            final List<Reward> rewards = snapshot.rewards()
+                .entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .toList();
+
+            for (int slot = 0; slot < PlayerInventory.MAIN_SIZE; slot += 1) {
+                final ItemStack stack = switch (this) {
+                    case MIXED -> switch (slot % 3) {
+                        case 0 -> new ItemStack(Items.COBBLESTONE, 32);
+                        case 1 -> createCurrencyStack(units.get(slot % units.size()).getItem(), 16);
+                        default -> createCurrencyStack(rewards.get(slot % rewards.size()).getItem(), 3);
+                    };
+                    case ALL_CURRENCY -> {
+                        if (slot % 4 == 3) {
+                            yield createCurrencyStack(rewards.get(slot % rewards.size()).getItem(), 8);
+                        } else {
+                            yield createCurrencyStack(units.get(slot % units.size()).getItem(), 64);
+                        }
+                    }
+                    case FULL_STACKS -> createCurrencyStack(units.get(0).getItem(), 64);
+                    default -> ItemStack.EMPTY;
+                };
+
+                inventory.setStack(slot, stack);
+            }
+        }
+
+    }
+
+}
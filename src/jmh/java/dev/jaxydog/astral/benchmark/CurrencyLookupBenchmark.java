@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencySnapshot;
+import dev.jaxydog.astral.utility.CurrencyHelper.Reward;
+import dev.jaxydog.astral.utility.CurrencyHelper.Unit;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.random.Random;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks currency lookups and reward sampling against synthetic currency tables.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyLookupBenchmark {
+
+    /**
+     * The number of units within the currency table.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "5", "50", "500" })
+    public int tableSize;
+
+    /**
+     * The number of rewards drawn per reward benchmark invocation.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "1", "64" })
+    public int rewardCount;
+
+    /**
+     * The benchmarked currencies.
+     *
+     * @since 2.3.0
+     */
+    private CurrencySnapshot snapshot;
+
+    /**
+     * A unit from the middle of the table.
+     *
+     * @since 2.3.0
+     */
+    private Unit unit;
+
+    /**
+     * A stack of the middle unit.
+     *
+     * @since 2.3.0
+     */
+    private ItemStack unitStack;
+
+    /**
+     * The identifier of the middle unit's item.
+     *
+     * @since 2.3.0
+     */
+    private Identifier unitItemId;
+
+    /**
+     * An item that is not a currency.
+     *
+     * @since 2.3.0
+     */
+    private Item missingItem;
+
+    /**
+     * The random number generator used for rewards.
+     *
+     * @since 2.3.0
+     */
+    private Random random;
+
+    /**
+     * Builds and publishes the currency table.
+     *
+     * @since 2.3.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        Fixtures.bootstrap();
+
+        this.snapshot = CurrencyFixtures.createSnapshot(this.tableSize);
+
+        final List<Unit> units = this.snapshot.units().entrySet().stream().sorted(Entry.comparingByKey())
+            .map(Entry::getValue)
+            .toList();
+
+        this.unit = units.get(units.size() / 2);
+        this.unitStack = CurrencyFixtures.createCurrencyStack(this.unit.getItem(), 1);
+        this.unitItemId = this.unit.getItemId();
+        this.missingItem = Items.COBBLESTONE;
+        this.random = Random.create(0L);
+
+        CurrencySnapshot.publish(this.snapshot);
+    }
+
+    /**
+     * Benchmarks resolving the next unit by value.
+     *
+     * @return The next unit.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public Optional<Entry<Identifier, Unit>> unitNext() {
+        return this.unit.next(true);
+    }
+
+    /**
+     * Benchmarks finding a unit by item stack.
+     *
+     * @return The found unit.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public Optional<Unit> findByStack() {
+        return this.snapshot.units().find(this.unitStack);
+    }
+
+    /**
+     * Benchmarks finding a unit by item identifier.
+     *
+     * @return The found unit.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public Optional<Unit> findByIdentifier() {
+        return this.snapshot.units().find(this.unitItemId);
+    }
+
+    /**
+     * Benchmarks failing to find a unit for a non-currency item.
+     *
+     * @return The found unit.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public Optional<Unit> findMissing() {
+        return this.snapshot.units().find(this.missingItem);
+    }
+
+    /**
+     * Benchmarks drawing random rewards.
+     *
+     * @return The drawn rewards.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public List<Reward> rewardGetRandom() {
+        return Reward.getRandom(this.random, this.rewardCount);
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.benchmark.SprayFixtures.BenchmarkSprayer;
+import dev.jaxydog.astral.content.item.custom.Sprayed.Behavior;
+import dev.jaxydog.astral.content.item.custom.Sprayed.BlockTarget;
+import dev.jaxydog.astral.content.item.custom.Sprayed.EntityTarget;
+import dev.jaxydog.astral.content.item.custom.Sprayed.Source;
+import dev.jaxydog.astral.content.item.custom.Sprayed.SprayBuffer;
+import dev.jaxydog.astral.content.item.custom.Sprayed.SprayResult;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the dispatch performed for each spray, scaled by the number of registered behaviors.
+ * <p>
+ * Entities and worlds cannot be created without a running server, so the entity benchmarks spray a target without an
+ * entity, which the dispatch treats as having no powers, and the block benchmarks measure the indexed behavior lookup
+ * for a block state. Dispatch to {@code astral:action_on_spray} and {@code astral:action_when_sprayed} powers depends
+ * on mixins, and is instead measured by the {@code SprayGameTest} game test.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SprayDispatchBenchmark {
+
+    /**
+     * The number of behaviors registered for entities and for each block type.
+     *
+     * @since 2.3.0
+     */
+    @Param({ "1", "10", "50" })
+    public int behaviorCount;
+
+    /**
+     * The benchmarked spray item.
+     *
+     * @since 2.3.0
+     */
+    private BenchmarkSprayer sprayer;
+
+    /**
+     * The spray source.
+     *
+     * @since 2.3.0
+     */
+    private Source source;
+
+    /**
+     * The entity spray target.
+     *
+     * @since 2.3.0
+     */
+    private EntityTarget entityTarget;
+
+    /**
+     * The block states that are alternated between for block lookups.
+     *
+     * @since 2.3.0
+     */
+    private BlockState[] states;
+
+    /**
+     * The index of the next block state.
+     *
+     * @since 2.3.0
+     */
+    private int index;
+
+    /**
+     * Builds the spray item and targets.
+     *
+     * @since 2.3.0
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        Fixtures.bootstrap();
+
+        this.sprayer = SprayFixtures.createSprayer(this.behaviorCount);
+        this.source = new Source(ItemStack.EMPTY, null, Vec3d.ZERO);
+        this.entityTarget = new EntityTarget(null);
+        this.states = new BlockState[] { Blocks.FARMLAND.getDefaultState(), Blocks.COPPER_BLOCK.getDefaultState() };
+        this.index = 0;
+    }
+
+    /**
+     * Benchmarks testing whether an entity may be sprayed.
+     *
+     * @return Whether the entity may be sprayed.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public boolean entityCanSpray() {
+        return this.sprayer.canSpray(this.source, this.entityTarget, 1);
+    }
+
+    /**
+     * Benchmarks building a deferred spray result for an entity.
+     *
+     * @return The spray result.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public SprayResult entityOnSpray() {
+        return this.sprayer.onSpray(this.source, this.entityTarget, true);
+    }
+
+    /**
+     * Benchmarks evaluating an entity spray into the shared buffer, as is done when spraying directly.
+     *
+     * @return The number of charges consumed.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public int entityEvaluate() {
+        final SprayBuffer buffer = SprayBuffer.acquire();
+
+        try {
+            this.sprayer.evaluate(this.source, this.entityTarget, buffer);
+
+            return buffer.charges();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Benchmarks resolving the behaviors that apply to a block state.
+     *
+     * @return The applicable behaviors.
+     *
+     * @since 2.3.0
+     */
+    @Benchmark
+    public List<Behavior<BlockTarget>> blockLookup() {
+        this.index ^= 1;
+
+        return this.sprayer.getBehaviors(this.states[this.index]);
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.benchmark;
+
+import dev.jaxydog.astral.content.item.custom.Sprayed;
+import dev.jaxydog.astral.content.item.custom.Sprayed.Behavior;
+import dev.jaxydog.astral.content.item.custom.Sprayed.EntityTarget;
+import net.minecraft.block.AbstractFireBlock;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.FarmlandBlock;
+import net.minecraft.block.Oxidizable;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+
+import java.util.List;
+
+/**
+ * Provides synthetic spray items for benchmarks.
+ * <p>
+ * Behaviors are added to an unregistered {@link Sprayed} implementation that treats every stack as sprayable, so that
+ * the number of behaviors can be varied without touching the registered spray bottle. The targeted block states are
+ * vanilla, so {@link Fixtures#bootstrap()} must be called before any sprayer is used.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public final class SprayFixtures {
+
+    /**
+     * Prevents this class from being instantiated.
+     *
+     * @since 2.3.0
+     */
+    private SprayFixtures() {}
+
+    /**
+     * Creates a new spray item with the given number of behaviors for entities and for each benchmarked block type.
+     * <p>
+     * Only the lowest-priority behavior of each list matches, meaning that every behavior is tested on each spray.
+     * Behaviors are also added for fire blocks, which are never benchmarked, so that block lookups must skip them.
+     *
+     * @param count The number of behaviors.
+     *
+     * @return A new spray item.
+     *
+     * @since 2.3.0
+     */
+    public static BenchmarkSprayer createSprayer(int count) {
+        final BenchmarkSprayer sprayer = new BenchmarkSprayer();
+
+        for (int index = 0; index < count; index += 1) {
+            final boolean matches = index == count - 1;
+            final int priority = count - index;
+
+            sprayer.addBehavior(EntityTarget.class,
+                new Behavior<>((source, target) -> matches, (source, target) -> {}, 1, priority)
+            );
+            sprayer.addBlockBehavior(FarmlandBlock.class,
+                new Behavior<>((source, target) -> matches, (source, target) -> {}, 4, priority)
+            );
+            sprayer.addBlockBehavior(Oxidizable.class,
+                new Behavior<>((source, target) -> matches, (source, target) -> {}, 1, priority)
+            );
+            sprayer.addBlockBehavior(AbstractFireBlock.class,
+                new Behavior<>((source, target) -> matches, (source, target) -> {}, 2, priority)
+            );
+        }
+
+        sprayer.behaviors.freeze();
+
+        return sprayer;
+    }
+
+    /**
+     * An unregistered spray item used within benchmarks.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    public static final class BenchmarkSprayer implements Sprayed {
+
+        /**
+         * The item's behaviors.
+         *
+         * @since 2.3.0
+         */
+        private final BehaviorRegistry behaviors = new BehaviorRegistry();
+
+        /**
+         * Creates a new benchmark spray item.
+         *
+         * @since 2.3.0
+         */
+        private BenchmarkSprayer() {}
+
+        @Override
+        public <T extends SprayTarget> void addBehavior(Class<T> type, Behavior<T> behavior) {
+            this.behaviors.add(type, behavior);
+        }
+
+        @Override
+        public void addBlockBehavior(Class<?> blockType, Behavior<BlockTarget> behavior) {
+            this.behaviors.addBlock(blockType, behavior);
+        }
+
+        @Override
+        public <T extends SprayTarget> List<Behavior<T>> getBehaviors(Class<T> type) {
+            return this.behaviors.get(type);
+        }
+
+        @Override
+        public List<Behavior<BlockTarget>> getBehaviors(BlockState state) {
+            return this.behaviors.get(state);
+        }
+
+        @Override
+        public boolean isSprayable(ItemStack stack, int charges) {
+            // Stacks cannot contain this item, so every stack is treated as having unlimited charges.
+            return true;
+        }
+
+        @Override
+        public Item asItem() {
+            return Items.GLASS_BOTTLE;
+        }
+
+        @Override
+        public String getRegistryPath() {
+            return "benchmark_sprayer";
+        }
+
+    }
+
+}
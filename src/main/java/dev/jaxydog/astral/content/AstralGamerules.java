@@ -16,6 +16,7 @@ package dev.jaxydog.astral.content;
 
 import dev.jaxydog.astral.register.ContentRegistrar;
 import dev.jaxydog.astral.register.IgnoreRegistration;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
 import net.fabricmc.fabric.api.gamerule.v1.GameRuleFactory;
 import net.fabricmc.fabric.api.gamerule.v1.GameRuleRegistry;
 import net.fabricmc.fabric.api.gamerule.v1.rule.DoubleRule;
@@ -40,7 +41,7 @@ public final class AstralGamerules extends ContentRegistrar {
     @IgnoreRegistration
     public static final Key<BooleanRule> CHALLENGE_ENABLED = GameRuleRegistry.register("challengeEnabled",
         Category.MOBS,
-        GameRuleFactory.createBooleanRule(true)
+        GameRuleFactory.createBooleanRule(true, (server, rule) -> ChallengeSettings.refresh(server))
     );
 
     /**
@@ -51,7 +52,7 @@ public final class AstralGamerules extends ContentRegistrar {
     @IgnoreRegistration
     public static final Key<IntRule> CHALLENGE_CHUNK_STEP = GameRuleRegistry.register("challengeChunkStep",
         Category.MOBS,
-        GameRuleFactory.createIntRule(16)
+        GameRuleFactory.createIntRule(16, (server, rule) -> ChallengeSettings.refresh(server))
     );
 
     /**
@@ -62,7 +63,7 @@ public final class AstralGamerules extends ContentRegistrar {
     @IgnoreRegistration
     public static final Key<DoubleRule> CHALLENGE_ATTACK_ADDITIVE = GameRuleRegistry.register("challengeAttackAdditive",
         Category.MOBS,
-        GameRuleFactory.createDoubleRule(1D)
+        GameRuleFactory.createDoubleRule(1D, (server, rule) -> ChallengeSettings.refresh(server))
     );
 
     /**
@@ -73,7 +74,7 @@ public final class AstralGamerules extends ContentRegistrar {
     @IgnoreRegistration
     public static final Key<DoubleRule> CHALLENGE_HEALTH_ADDITIVE = GameRuleRegistry.register("challengeHealthAdditive",
         Category.MOBS,
-        GameRuleFactory.createDoubleRule(1D)
+        GameRuleFactory.createDoubleRule(1D, (server, rule) -> ChallengeSettings.refresh(server))
     );
 
     /**
@@ -84,7 +85,30 @@ public final class AstralGamerules extends ContentRegistrar {
     @IgnoreRegistration
     public static final Key<BooleanRule> CHALLENGE_USE_WORLDSPAWN = GameRuleRegistry.register("challengeUseWorldspawn",
         Category.MOBS,
-        GameRuleFactory.createBooleanRule(true)
+        GameRuleFactory.createBooleanRule(true, (server, rule) -> ChallengeSettings.refresh(server))
+    );
+
+    /**
+     * The gamerule that determines whether challenge scaling is applied through attribute modifiers.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<BooleanRule> CHALLENGE_USE_ATTRIBUTES = GameRuleRegistry.register("challengeUseAttributes",
+        Category.MOBS,
+        GameRuleFactory.createBooleanRule(false, (server, rule) -> ChallengeSettings.refresh(server))
+    );
+
+    /**
+     * The gamerule that configures how many chunks an entity must move before its challenge modifiers are refreshed.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<IntRule> CHALLENGE_ATTRIBUTE_REFRESH_DISTANCE = GameRuleRegistry.register(
+        "challengeAttributeRefreshDistance",
+        Category.MOBS,
+        GameRuleFactory.createIntRule(1, 1, (server, rule) -> ChallengeSettings.refresh(server))
     );
 
     /**
@@ -98,4 +122,61 @@ public final class AstralGamerules extends ContentRegistrar {
         GameRuleFactory.createDoubleRule(0.1D)
     );
 
+    /**
+     * The gamerule that determines whether currency exchanges are spread across multiple server ticks.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<BooleanRule> CURRENCY_DEFER_EXCHANGES = GameRuleRegistry.register("currencyDeferExchanges",
+        Category.PLAYER,
+        GameRuleFactory.createBooleanRule(false)
+    );
+
+    /**
+     * The gamerule that configures the maximum number of deferred currency exchanges performed each server tick.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<IntRule> CURRENCY_EXCHANGES_PER_TICK = GameRuleRegistry.register("currencyExchangesPerTick",
+        Category.PLAYER,
+        GameRuleFactory.createIntRule(8, 1)
+    );
+
+    /**
+     * The gamerule that configures the time, in microseconds, that may be spent on deferred currency exchanges each
+     * server tick, or zero for no limit.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<IntRule> CURRENCY_EXCHANGE_BUDGET = GameRuleRegistry.register("currencyExchangeBudget",
+        Category.PLAYER,
+        GameRuleFactory.createIntRule(1000, 0)
+    );
+
+    /**
+     * The gamerule that configures the radius, in blocks, of a spray item's mist, or zero to disable misting.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<IntRule> SPRAY_MIST_RADIUS = GameRuleRegistry.register("sprayMistRadius",
+        Category.PLAYER,
+        GameRuleFactory.createIntRule(4, 0, 16)
+    );
+
+    /**
+     * The gamerule that configures the maximum number of flee paths that sprayed entities may search for in each world
+     * every tick.
+     *
+     * @since 2.3.0
+     */
+    @IgnoreRegistration
+    public static final Key<IntRule> SPRAY_FLEE_PATHS_PER_TICK = GameRuleRegistry.register("sprayFleePathsPerTick",
+        Category.MOBS,
+        GameRuleFactory.createIntRule(4, 1)
+    );
+
 }
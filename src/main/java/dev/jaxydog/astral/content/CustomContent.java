@@ -2,10 +2,12 @@ package dev.jaxydog.astral.content;
 
 import dev.jaxydog.astral.content.block.AstralBlocks;
 import dev.jaxydog.astral.content.data.AstralData;
+import dev.jaxydog.astral.content.data.AstralDataLoaders;
 import dev.jaxydog.astral.content.effect.AstralPotions;
 import dev.jaxydog.astral.content.effect.AstralStatusEffects;
 import dev.jaxydog.astral.content.item.AstralItems;
 import dev.jaxydog.astral.content.item.group.AstralItemGroups;
+import dev.jaxydog.astral.content.listener.AstralListeners;
 import dev.jaxydog.astral.content.power.AstralActions;
 import dev.jaxydog.astral.content.power.AstralConditions;
 import dev.jaxydog.astral.content.power.AstralPowers;
@@ -33,6 +35,7 @@ public final class CustomContent extends ContentRegistrar {
     // Vanilla extensions
     @RegistrationPriority(2)
     public static final AstralBlocks BLOCKS = new AstralBlocks();
+    public static final AstralDataLoaders DATA_LOADERS = new AstralDataLoaders();
     public static final AstralGamerules GAMERULES = new AstralGamerules();
     @RegistrationPriority(1)
     public static final AstralItemGroups ITEM_GROUPS = new AstralItemGroups();
@@ -44,6 +47,7 @@ public final class CustomContent extends ContentRegistrar {
     public static final AstralStatusEffects STATUS_EFFECTS = new AstralStatusEffects();
 
     // Miscellaneous
+    public static final AstralListeners LISTENERS = new AstralListeners();
     public static final AstralTrinketPredicates TRINKET_SLOTS = new AstralTrinketPredicates();
 
 }
@@ -14,6 +14,7 @@
 
 package dev.jaxydog.astral.content.data;
 
+import dev.jaxydog.astral.content.data.custom.ChallengeZoneLoader;
 import dev.jaxydog.astral.content.data.custom.CurrencyLoader;
 import dev.jaxydog.astral.register.ContentRegistrar;
 
@@ -32,4 +33,11 @@ public final class AstralDataLoaders extends ContentRegistrar {
      */
     public static final CurrencyLoader CURRENCY = new CurrencyLoader("currency");
 
+    /**
+     * The challenge zone data loader.
+     *
+     * @since 2.3.0
+     */
+    public static final ChallengeZoneLoader CHALLENGE_ZONES = new ChallengeZoneLoader("challenge_zones");
+
 }
@@ -38,7 +38,7 @@ public abstract class AstralJsonDataLoader extends JsonDataLoader implements Ide
      *
      * @since 2.0.0
      */
-    private static final Gson DEFAULT_GSON = new GsonBuilder().setPrettyPrinting().setLenient().create();
+    static final Gson DEFAULT_GSON = new GsonBuilder().setPrettyPrinting().setLenient().create();
 
     /**
      * The data loader's folder and identifier path used within the registration system.
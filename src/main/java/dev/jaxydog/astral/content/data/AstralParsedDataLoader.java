@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.data;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import dev.jaxydog.astral.register.Registered.Common;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.minecraft.resource.JsonDataLoader;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.resource.SinglePreparationResourceReloader;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
+
+import java.util.Map;
+
+/**
+ * A JSON data loader that parses its files into a value of type {@code T} during the preparation stage.
+ * <p>
+ * Parsing runs on the reload executor, and the parsed value is passed directly to
+ * {@link #apply(Object, ResourceManager, Profiler)} on the server thread.
+ * <p>
+ * This type is automatically registered.
+ *
+ * @param <T> The type of the parsed value.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public abstract class AstralParsedDataLoader<T> extends SinglePreparationResourceReloader<T>
+    implements IdentifiableResourceReloadListener, Common {
+
+    /**
+     * The GSON instance used to read files.
+     *
+     * @since 2.3.0
+     */
+    private final Gson gson;
+    /**
+     * The data loader's folder and identifier path used within the registration system.
+     *
+     * @since 2.3.0
+     */
+    private final String path;
+
+    /**
+     * Creates a new parsed JSON data loader.
+     *
+     * @param gson The GSON instance.
+     * @param folder The folder name.
+     *
+     * @since 2.3.0
+     */
+    public AstralParsedDataLoader(Gson gson, String folder) {
+        this.gson = gson;
+        this.path = folder;
+    }
+
+    /**
+     * Creates a new parsed JSON data loader.
+     *
+     * @param folder The folder name.
+     *
+     * @since 2.3.0
+     */
+    public AstralParsedDataLoader(String folder) {
+        this(AstralJsonDataLoader.DEFAULT_GSON, folder);
+    }
+
+    /**
+     * Parses the loaded JSON files into a new value.
+     *
+     * @param files The loaded JSON files.
+     *
+     * @return The parsed value.
+     *
+     * @since 2.3.0
+     */
+    protected abstract T parse(Map<Identifier, JsonElement> files);
+
+    @Override
+    protected T prepare(ResourceManager manager, Profiler profiler) {
+        final Map<Identifier, JsonElement> files = new Object2ObjectOpenHashMap<>();
+
+        JsonDataLoader.load(manager, this.path, this.gson, files);
+
+        return this.parse(files);
+    }
+
+    @Override
+    public String getRegistryPath() {
+        return this.path;
+    }
+
+    @Override
+    public Identifier getFabricId() {
+        return this.getRegistryId();
+    }
+
+    @Override
+    public void registerCommon() {
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(this);
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.data.custom;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import dev.jaxydog.astral.Astral;
+import dev.jaxydog.astral.content.data.AstralParsedDataLoader;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeZone;
+import dev.jaxydog.astral.utility.ChallengeHelper.ZoneIndex;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+import net.minecraft.util.profiler.Profiler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * The challenge zone data loader.
+ * <p>
+ * Each file within the loader's folder defines a single zone, identified by the file's path.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class ChallengeZoneLoader extends AstralParsedDataLoader<ZoneIndex> {
+
+    /**
+     * Creates a new JSON data loader.
+     *
+     * @param gson The GSON instance.
+     * @param folder The folder name.
+     *
+     * @since 2.3.0
+     */
+    public ChallengeZoneLoader(Gson gson, String folder) {
+        super(gson, folder);
+    }
+
+    /**
+     * Creates a new JSON data loader.
+     *
+     * @param folder The folder name.
+     *
+     * @since 2.3.0
+     */
+    public ChallengeZoneLoader(String folder) {
+        super(folder);
+    }
+
+    /**
+     * Parses and indexes the given zone data.
+     * <p>
+     * This runs on the reload executor, keeping all parsing and indexing off of the server thread. The completed index
+     * is only published once {@link #apply(ZoneIndex, ResourceManager, Profiler)} is called.
+     *
+     * @param prepared The loaded JSON files.
+     *
+     * @return A new zone index.
+     *
+     * @since 2.3.0
+     */
+    @Override
+    protected ZoneIndex parse(Map<Identifier, JsonElement> prepared) {
+        final List<ChallengeZone> zones = new ObjectArrayList<>(prepared.size());
+
+        for (final Entry<Identifier, JsonElement> entry : prepared.entrySet()) {
+            try {
+                final JsonObject object = JsonHelper.asObject(entry.getValue(), "zone");
+
+                zones.add(ChallengeZone.parse(entry.getKey(), object));
+            } catch (JsonSyntaxException | IllegalArgumentException exception) {
+                Astral.LOGGER.warn("Invalid challenge zone '{}': {}", entry.getKey(), exception.getLocalizedMessage());
+            }
+        }
+
+        final ZoneIndex index = new ZoneIndex(zones);
+
+        Astral.LOGGER.info("Loaded {} challenge zones", index.size());
+
+        return index;
+    }
+
+    @Override
+    protected void apply(ZoneIndex index, ResourceManager manager, Profiler profiler) {
+        ZoneIndex.publish(index);
+    }
+
+    @Override
+    public void registerCommon() {
+        super.registerCommon();
+
+        // Worlds capture their zones within their challenge settings, so they must be rebuilt after a reload.
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, manager, success) -> {
+            if (success) ChallengeSettings.rebuild(server);
+        });
+    }
+
+}
@@ -19,7 +19,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import dev.jaxydog.astral.Astral;
-import dev.jaxydog.astral.content.data.AstralJsonDataLoader;
+import dev.jaxydog.astral.content.data.AstralParsedDataLoader;
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencyMap;
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencySnapshot;
 import dev.jaxydog.astral.utility.CurrencyHelper.ItemRepresentable;
 import dev.jaxydog.astral.utility.CurrencyHelper.Reward;
 import dev.jaxydog.astral.utility.CurrencyHelper.Skeleton;
@@ -31,9 +33,9 @@ import net.minecraft.util.JsonHelper;
 import net.minecraft.util.profiler.Profiler;
 
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.function.BiFunction;
-import java.util.function.Function;
 
 /**
  * The currency data loader.
@@ -41,7 +43,7 @@ import java.util.function.Function;
  * @author Jaxydog
  * @since 2.0.0
  */
-public class CurrencyLoader extends AstralJsonDataLoader {
+public class CurrencyLoader extends AstralParsedDataLoader<CurrencySnapshot> {
 
     /**
      * Creates a new JSON data loader.
@@ -71,7 +73,7 @@ public class CurrencyLoader extends AstralJsonDataLoader {
      *
      * @param object The JSON source object.
      * @param parse The function used to parse and construct an instance of type {@code T}.
-     * @param loader Loads a completed list of constructed types, returning the number of values added.
+     * @param output The map that constructed values are added to.
      * @param descriptor A string that describes the data being loaded for logging purposes.
      * @param <T> The type being loaded.
      *
@@ -80,26 +82,27 @@ public class CurrencyLoader extends AstralJsonDataLoader {
     private <T extends ItemRepresentable> void load(
         JsonObject object,
         BiFunction<Identifier, JsonObject, T> parse,
-        Function<Map<Identifier, T>, Integer> loader,
+        Map<Identifier, T> output,
         String descriptor
     ) {
-        final Map<Identifier, T> output = new Object2ObjectOpenHashMap<>(object.size());
+        int loaded = 0;
 
-        object.asMap().forEach((key, value) -> {
+        for (final Entry<String, JsonElement> entry : object.entrySet()) {
+            final String key = entry.getKey();
             final Identifier valueId = Identifier.tryParse(key);
 
             if (Objects.isNull(valueId)) {
                 Astral.LOGGER.warn("Invalid identifier key '{}'", key);
 
-                return;
+                continue;
             } else if (output.containsKey(valueId)) {
                 Astral.LOGGER.warn("Duplicate identifier key '{}'", key);
 
-                return;
+                continue;
             }
 
             try {
-                final JsonObject data = JsonHelper.asObject(value, "data");
+                final JsonObject data = JsonHelper.asObject(entry.getValue(), "data");
                 final String itemIdString = JsonHelper.getString(data, "item");
                 final Identifier itemId = Identifier.tryParse(itemIdString);
 
@@ -108,28 +111,66 @@ public class CurrencyLoader extends AstralJsonDataLoader {
                 }
 
                 output.put(valueId, parse.apply(itemId, data));
+
+                loaded += 1;
             } catch (JsonSyntaxException exception) {
                 Astral.LOGGER.warn(exception.getLocalizedMessage());
             }
-        });
+        }
 
-        Astral.LOGGER.info("Loaded {} currency {}", loader.apply(output), descriptor);
+        Astral.LOGGER.info("Loaded {} currency {}", loaded, descriptor);
     }
 
+    /**
+     * Parses and compiles the given currency data into a new snapshot.
+     * <p>
+     * This runs on the reload executor, keeping all parsing and compilation off of the server thread. The completed
+     * snapshot is only published once {@link #apply(CurrencySnapshot, ResourceManager, Profiler)} is called.
+     *
+     * @param prepared The loaded JSON files.
+     *
+     * @return A new currency snapshot.
+     *
+     * @since 2.3.0
+     */
     @Override
-    protected void apply(Map<Identifier, JsonElement> prepared, ResourceManager manager, Profiler profiler) {
-        prepared.entrySet().stream().filter(entry -> entry.getValue() instanceof JsonObject).forEach(entry -> {
-            final JsonObject object = JsonHelper.asObject(entry.getValue(), "data");
+    protected CurrencySnapshot parse(Map<Identifier, JsonElement> prepared) {
+        final Map<Identifier, Unit> units = new Object2ObjectOpenHashMap<>();
+        final Map<Identifier, Reward> rewards = new Object2ObjectOpenHashMap<>();
+        final Map<Identifier, Skeleton> skeletons = new Object2ObjectOpenHashMap<>();
+
+        for (final Entry<Identifier, JsonElement> entry : prepared.entrySet()) {
+            if (!(entry.getValue() instanceof final JsonObject object)) continue;
+
             final String namespace = entry.getKey().getNamespace();
             final String path = entry.getKey().getPath();
             final String type = path.replaceFirst("\\.json$", "");
 
             switch (type) {
-                case "units" -> this.load(object, (i, o) -> Unit.parse(namespace, i, o), Unit.UNITS::load, type);
-                case "rewards" -> this.load(object, Reward::parse, Reward.REWARDS::load, type);
-                case "skeletons" -> this.load(object, Skeleton::parse, Skeleton.SKELETONS::load, type);
+                case "units" -> this.load(object, (i, o) -> Unit.parse(namespace, i, o), units, type);
+                case "rewards" -> this.load(object, Reward::parse, rewards, type);
+                case "skeletons" -> this.load(object, Skeleton::parse, skeletons, type);
             }
-        });
+        }
+
+        final CurrencySnapshot snapshot = new CurrencySnapshot(
+            new CurrencyMap<>(units),
+            new CurrencyMap<>(rewards),
+            new CurrencyMap<>(skeletons)
+        );
+
+        Astral.LOGGER.info("Compiled {} currency exchanges, {} currency rewards, and {} currency skeletons",
+            snapshot.exchanges().size(),
+            snapshot.sampler().size(),
+            snapshot.solver().skeletonCount()
+        );
+
+        return snapshot;
+    }
+
+    @Override
+    protected void apply(CurrencySnapshot snapshot, ResourceManager manager, Profiler profiler) {
+        CurrencySnapshot.publish(snapshot);
     }
 
 }
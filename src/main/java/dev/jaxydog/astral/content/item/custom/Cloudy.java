@@ -41,6 +41,18 @@ public interface Cloudy {
      * @since 1.4.0
      */
     String STORMINESS_KEY = "Storminess";
+    /**
+     * The NBT key used to store the game time at which an item stack's storminess value was last written.
+     *
+     * @since 2.3.0
+     */
+    String STORMINESS_TIME_KEY = "StorminessTime";
+    /**
+     * The NBT key used to store the environment that an item stack's storminess value is changing within.
+     *
+     * @since 2.3.0
+     */
+    String STORMINESS_ENVIRONMENT_KEY = "StorminessEnvironment";
     /**
      * The translation key assigned to the item's storminess tooltip label.
      * <p>
@@ -63,8 +75,29 @@ public interface Cloudy {
      */
     Rgb COLOR_MAX = new Rgb(0xEE_EE_EE);
 
+    /**
+     * The number of visible storminess steps, matching the precision of the storminess tooltip.
+     * <p>
+     * Storminess values are only written to an item stack's NBT when they cross one of these steps.
+     *
+     * @since 2.3.0
+     */
+    int STORMINESS_STEPS = 100;
+    /**
+     * The maximum number of ticks that a changing storminess value may go without being written.
+     * <p>
+     * Stacks that are not being ticked, such as those within containers, should not change, and there is no way of
+     * knowing how long a stack was left untouched. Limiting the time between writes while ticking allows the elapsed
+     * time to be bounded when evaluating a stack's storminess.
+     *
+     * @since 2.3.0
+     */
+    int MAX_UNWRITTEN_TICKS = 100;
+
     /**
      * Sets the given item stack's storminess value.
+     * <p>
+     * The stored value will not change over time until the stack's storminess is next updated.
      *
      * @param stack The item stack.
      * @param storminess The storminess level.
@@ -72,16 +105,44 @@ public interface Cloudy {
      * @since 1.4.0
      */
     default void setStorminess(ItemStack stack, double storminess) {
+        this.setStorminess(stack, storminess, 0L, Environment.NONE);
+    }
+
+    /**
+     * Sets the given item stack's storminess value, which will change over time according to the given environment.
+     *
+     * @param stack The item stack.
+     * @param storminess The storminess level.
+     * @param time The current game time.
+     * @param environment The stack's current environment.
+     *
+     * @since 2.3.0
+     */
+    default void setStorminess(ItemStack stack, double storminess, long time, Environment environment) {
         // Ensure the supplied value fits within the expected bounds.
         storminess = this.clampStorminess(stack, storminess);
 
-        // Remove the item's NBT tag if the storminess is roughly at the minimum bound.
+        // Remove the item's NBT tag if the storminess is roughly at the minimum bound and will not increase.
         // This prevents the annoying "feature" of cloudy items, where they would no longer be stackable once they
         // have any level of storminess.
-        if (storminess <= (this.getMinStorminess(stack) + Math.ulp(storminess))) {
+        if (storminess <= (this.getMinStorminess(stack) + Math.ulp(storminess)) && !environment.isIncreasing()) {
             stack.removeSubNbt(STORMINESS_KEY);
+            stack.removeSubNbt(STORMINESS_TIME_KEY);
+            stack.removeSubNbt(STORMINESS_ENVIRONMENT_KEY);
+
+            return;
+        }
+
+        final NbtCompound nbt = stack.getOrCreateNbt();
+
+        nbt.putDouble(STORMINESS_KEY, storminess);
+
+        if (environment == Environment.NONE) {
+            nbt.remove(STORMINESS_TIME_KEY);
+            nbt.remove(STORMINESS_ENVIRONMENT_KEY);
         } else {
-            stack.getOrCreateNbt().putDouble(STORMINESS_KEY, storminess);
+            nbt.putLong(STORMINESS_TIME_KEY, time);
+            nbt.putByte(STORMINESS_ENVIRONMENT_KEY, (byte) environment.ordinal());
         }
     }
 
@@ -135,6 +196,98 @@ public interface Cloudy {
         }
     }
 
+    /**
+     * Returns the given item stack's storminess value at the given game time.
+     * <p>
+     * This evaluates the storminess value that would have been reached by updating the stack every tick since its value
+     * was last written, using the deltas given by {@link #getIncreaseDelta(ItemStack)} and
+     * {@link #getDecreaseDelta(ItemStack)}.
+     *
+     * @param stack The item stack.
+     * @param time The current game time.
+     *
+     * @return The storminess value.
+     *
+     * @since 2.3.0
+     */
+    default double getStorminess(ItemStack stack, long time) {
+        return this.getStorminess(stack, time, this.getIncreaseDelta(stack), this.getDecreaseDelta(stack));
+    }
+
+    /**
+     * Returns the given item stack's storminess value at the given game time.
+     * <p>
+     * This evaluates the storminess value that would have been reached by updating the stack every tick since its value
+     * was last written, using the given deltas.
+     *
+     * @param stack The item stack.
+     * @param time The current game time.
+     * @param increaseDelta The delta used when increasing.
+     * @param decreaseDelta The delta used when decreasing.
+     *
+     * @return The storminess value.
+     *
+     * @since 2.3.0
+     */
+    default double getStorminess(ItemStack stack, long time, double increaseDelta, double decreaseDelta) {
+        final double storminess = this.getStorminess(stack);
+        final Environment environment = this.getEnvironment(stack);
+
+        if (environment == Environment.NONE) return storminess;
+
+        final NbtCompound nbt = stack.getNbt();
+        final long written = nbt == null ? time : nbt.getLong(STORMINESS_TIME_KEY);
+        // The stack may not have been ticked for the entire time since it was written, so this is bounded.
+        final long elapsed = MathHelper.clamp(time - written, 0L, MAX_UNWRITTEN_TICKS);
+
+        if (elapsed == 0L) return storminess;
+
+        final boolean increasing = environment.isIncreasing();
+        final double delta = (increasing ? increaseDelta : decreaseDelta) * environment.getRate();
+        final double target = increasing ? this.getMaxStorminess(stack) : this.getMinStorminess(stack);
+
+        // This is the closed form of `MathHelper.lerp(delta, storminess, target)` being applied once per tick.
+        return this.clampStorminess(stack, target + ((storminess - target) * Math.pow(1D - delta, elapsed)));
+    }
+
+    /**
+     * Returns the environment that the given item stack's storminess value is currently changing within.
+     *
+     * @param stack The item stack.
+     *
+     * @return The stack's environment.
+     *
+     * @since 2.3.0
+     */
+    default Environment getEnvironment(ItemStack stack) {
+        final NbtCompound nbt = stack.getNbt();
+
+        if (nbt == null || !nbt.contains(STORMINESS_TIME_KEY)) return Environment.NONE;
+
+        final int index = nbt.getByte(STORMINESS_ENVIRONMENT_KEY);
+        final Environment[] environments = Environment.values();
+
+        // Ensure that invalid values are ignored, since the NBT may have been modified.
+        return index >= 0 && index < environments.length ? environments[index] : Environment.NONE;
+    }
+
+    /**
+     * Returns the visible step of the given storminess value.
+     *
+     * @param stack The item stack.
+     * @param storminess The storminess value.
+     *
+     * @return The visible step, between {@code 0} and {@link #STORMINESS_STEPS}.
+     *
+     * @since 2.3.0
+     */
+    default int getStorminessStep(ItemStack stack, double storminess) {
+        final double min = this.getMinStorminess(stack);
+        final double max = this.getMaxStorminess(stack);
+
+        return (int) Math.round(((storminess - min) / (max - min)) * STORMINESS_STEPS);
+    }
+
     /**
      * Returns this item's minimum storminess value for the given item stack.
      *
@@ -273,6 +426,12 @@ public interface Cloudy {
 
     /**
      * Updates the item stack's storminess value depending on environmental conditions.
+     * <p>
+     * Storminess values are evaluated lazily using {@link #getStorminess(ItemStack, long, double, double)}, and are
+     * only written when the stack's environment changes, when the value crosses a visible step, or after
+     * {@link #MAX_UNWRITTEN_TICKS} ticks. This avoids modifying the stack, and therefore synchronizing it, every tick.
+     * <p>
+     * Storminess is only updated on the server, with changes being synchronized to clients.
      *
      * @param stack The item stack.
      * @param entity The entity holding the stack.
@@ -282,21 +441,37 @@ public interface Cloudy {
      * @since 1.4.0
      */
     default void updateStorminess(ItemStack stack, Entity entity, double increaseDelta, double decreaseDelta) {
-        // Increase normally if submerged in water.
-        if (entity.isSubmergedInWater()) {
-            this.increaseStorminess(stack, increaseDelta);
-        }
-        // Increase at half of the rate if otherwise wet.
-        else if (entity.isWet()) {
-            this.increaseStorminess(stack, increaseDelta / 2D);
+        if (entity.getWorld().isClient()) return;
+
+        final long time = entity.getWorld().getTime();
+        final Environment previous = this.getEnvironment(stack);
+        final Environment environment = Environment.of(entity);
+        final double stored = this.getStorminess(stack);
+
+        // Stacks at their minimum storminess store no NBT, and should keep it that way unless they are increasing.
+        if (previous == Environment.NONE && !environment.isIncreasing() && stored <= this.getMinStorminess(stack)) {
+            return;
         }
-        // Decrease normally if on fire or in lava.
-        else if (entity.isOnFire() || entity.isInLava()) {
-            this.decreaseStorminess(stack, decreaseDelta);
+
+        final double storminess = this.getStorminess(stack, time, increaseDelta, decreaseDelta);
+
+        if (environment != previous) {
+            this.setStorminess(stack, storminess, time, environment);
+
+            return;
         }
-        // Decrease at half of the rate if not in water or rain (this is usually true at this point).
-        else if (!entity.isTouchingWaterOrRain()) {
-            this.decreaseStorminess(stack, decreaseDelta / 2D);
+
+        // The value has either settled at its target or has not changed since it was last written.
+        if (storminess == stored) return;
+
+        final NbtCompound nbt = stack.getNbt();
+        final long written = nbt == null ? time : nbt.getLong(STORMINESS_TIME_KEY);
+        final double target = environment.isIncreasing() ? this.getMaxStorminess(stack) : this.getMinStorminess(stack);
+        final boolean stepped = this.getStorminessStep(stack, storminess) != this.getStorminessStep(stack, stored);
+
+        // Values that have settled at their target are always written, so that they are not evaluated again.
+        if (stepped || storminess == target || time - written >= MAX_UNWRITTEN_TICKS) {
+            this.setStorminess(stack, storminess, time, environment);
         }
     }
 
@@ -319,4 +494,111 @@ public interface Cloudy {
         this.updateStorminess(stack, entity, increase, decrease);
     }
 
+    /**
+     * The environments that cause a cloudy item's storminess to change.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    enum Environment {
+
+        /**
+         * The storminess value does not change.
+         *
+         * @since 2.3.0
+         */
+        NONE(0D, false),
+        /**
+         * The holder is submerged in water, increasing storminess normally.
+         *
+         * @since 2.3.0
+         */
+        SUBMERGED(1D, true),
+        /**
+         * The holder is otherwise wet, increasing storminess at half of the rate.
+         *
+         * @since 2.3.0
+         */
+        WET(0.5D, true),
+        /**
+         * The holder is on fire or in lava, decreasing storminess normally.
+         *
+         * @since 2.3.0
+         */
+        BURNING(1D, false),
+        /**
+         * The holder is not in water or rain, decreasing storminess at half of the rate.
+         *
+         * @since 2.3.0
+         */
+        DRY(0.5D, false);
+
+        /**
+         * The multiplier applied to the storminess delta.
+         *
+         * @since 2.3.0
+         */
+        private final double rate;
+        /**
+         * Whether storminess increases within this environment.
+         *
+         * @since 2.3.0
+         */
+        private final boolean increasing;
+
+        /**
+         * Creates a new environment.
+         *
+         * @param rate The multiplier applied to the storminess delta.
+         * @param increasing Whether storminess increases within this environment.
+         *
+         * @since 2.3.0
+         */
+        Environment(double rate, boolean increasing) {
+            this.rate = rate;
+            this.increasing = increasing;
+        }
+
+        /**
+         * Returns the environment of the given entity.
+         *
+         * @param entity The entity.
+         *
+         * @return The entity's environment.
+         *
+         * @since 2.3.0
+         */
+        public static Environment of(Entity entity) {
+            if (entity.isSubmergedInWater()) return SUBMERGED;
+            if (entity.isWet()) return WET;
+            if (entity.isOnFire() || entity.isInLava()) return BURNING;
+            if (!entity.isTouchingWaterOrRain()) return DRY;
+
+            return NONE;
+        }
+
+        /**
+         * Returns the multiplier applied to the storminess delta.
+         *
+         * @return The delta multiplier.
+         *
+         * @since 2.3.0
+         */
+        public double getRate() {
+            return this.rate;
+        }
+
+        /**
+         * Returns whether storminess increases within this environment.
+         *
+         * @return Whether storminess increases.
+         *
+         * @since 2.3.0
+         */
+        public boolean isIncreasing() {
+            return this.increasing;
+        }
+
+    }
+
 }
@@ -16,8 +16,6 @@ package dev.jaxydog.astral.content.item.custom;
 
 import dev.jaxydog.astral.content.item.AstralItem;
 import dev.jaxydog.astral.content.sound.SoundContext;
-import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.advancement.criterion.Criteria;
 import net.minecraft.block.*;
 import net.minecraft.block.cauldron.CauldronBehavior;
@@ -52,7 +50,6 @@ import net.minecraft.world.event.GameEvent.Emitter;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -108,7 +105,7 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
      *
      * @since 2.0.0
      */
-    private final Map<Class<? extends SprayTarget>, List<Behavior<? extends SprayTarget>>> behaviors = new Object2ObjectArrayMap<>();
+    private final BehaviorRegistry behaviors = new BehaviorRegistry();
 
     /**
      * Creates a new item using the given settings.
@@ -141,16 +138,22 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
 
     @Override
     public <T extends SprayTarget> void addBehavior(Class<T> type, Behavior<T> behavior) {
-        this.behaviors.putIfAbsent(type, new ObjectArrayList<>(1));
-        this.behaviors.get(type).add(behavior);
+        this.behaviors.add(type, behavior);
+    }
+
+    @Override
+    public void addBlockBehavior(Class<?> blockType, Behavior<BlockTarget> behavior) {
+        this.behaviors.addBlock(blockType, behavior);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public <T extends SprayTarget> List<Behavior<T>> getBehaviors(Class<T> type) {
-        if (!this.behaviors.containsKey(type)) return List.of();
+        return this.behaviors.get(type);
+    }
 
-        return this.behaviors.get(type).stream().map(b -> (Behavior<T>) b).toList();
+    @Override
+    public List<Behavior<BlockTarget>> getBehaviors(BlockState state) {
+        return this.behaviors.get(state);
     }
 
     @Override
@@ -168,6 +171,10 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
     public TypedActionResult<ItemStack> use(World world, PlayerEntity player, Hand hand) {
         final ItemStack stack = player.getStackInHand(hand);
 
+        // Sneaking sprays a mist if the bottle has charges and misting is enabled, otherwise the bottle is refilled.
+        if (player.isSneaking() && this.isSprayable(stack) && this.getMistRadius(world, stack) > 0) {
+            return this.useMist(world, player, stack);
+        }
         if (this.isFilled(stack)) return TypedActionResult.pass(stack);
 
         // Attempt to ray-cast for a water source.
@@ -258,7 +265,7 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
         ));
 
         // Block oxidization.
-        this.addBehavior(BlockTarget.class, new Behavior<>((source, target) -> {
+        this.addBlockBehavior(Oxidizable.class, new Behavior<>((source, target) -> {
             final Block block = target.state().getBlock();
 
             return block instanceof Oxidizable oxidizable && Oxidizable.getIncreasedOxidationBlock(block).isPresent();
@@ -274,7 +281,7 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
         }, 1, 100));
 
         // Farmland moisturization.
-        this.addBehavior(BlockTarget.class, new Behavior<>((source, target) -> {
+        this.addBlockBehavior(FarmlandBlock.class, new Behavior<>((source, target) -> {
             final BlockState state = target.state();
             final Block block = state.getBlock();
 
@@ -286,7 +293,7 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
         }, 4));
 
         // Fire extinguishing.
-        this.addBehavior(BlockTarget.class, new Behavior<>((source, target) -> {
+        this.addBlockBehavior(AbstractFireBlock.class, new Behavior<>((source, target) -> {
             final BlockState state = target.state();
             final Block block = state.getBlock();
 
@@ -304,7 +311,7 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
         }, 2));
 
         // Campfire extinguishing.
-        this.addBehavior(BlockTarget.class, new Behavior<>((source, target) -> {
+        this.addBlockBehavior(CampfireBlock.class, new Behavior<>((source, target) -> {
             final BlockState state = target.state();
             final Block block = state.getBlock();
 
@@ -318,7 +325,7 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
         }, 2));
 
         // Sponge drying.
-        this.addBehavior(BlockTarget.class, new Behavior<>((source, target) -> {
+        this.addBlockBehavior(SpongeBlock.class, new Behavior<>((source, target) -> {
             final BlockState state = target.state();
 
             return state.isOf(Blocks.SPONGE);
@@ -332,6 +339,9 @@ public class SprayBottleItem extends AstralItem implements Sprayed {
 
         super.registerCommon();
 
+        // No more behaviors are expected past this point, so they can be sorted and indexed.
+        this.behaviors.freeze();
+
         // Allow refilling using cauldrons.
         CauldronBehavior.WATER_CAULDRON_BEHAVIOR.put(this, (blockState, world, pos, player, hand, stack) -> {
             if (this.isFilled(stack)) return ActionResult.PASS;
@@ -15,27 +15,37 @@
 package dev.jaxydog.astral.content.item.custom;
 
 import dev.jaxydog.astral.Astral;
+import dev.jaxydog.astral.content.AstralGamerules;
 import dev.jaxydog.astral.content.item.Custom;
 import dev.jaxydog.astral.content.power.custom.ActionOnSprayPower;
 import dev.jaxydog.astral.content.power.custom.ActionWhenSprayedPower;
 import dev.jaxydog.astral.content.sound.AstralSoundEvents;
 import dev.jaxydog.astral.content.sound.SoundContext;
 import dev.jaxydog.astral.register.Registered.Client;
+import dev.jaxydog.astral.utility.injected.AstralLivingEntity;
 import dev.jaxydog.astral.utility.injected.SprayableEntity;
-import io.github.apace100.apoli.component.PowerHolderComponent;
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.block.pattern.CachedBlockPosition;
 import net.minecraft.client.item.ModelPredicateProviderRegistry;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.predicate.entity.EntityPredicates;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.stat.Stats;
+import net.minecraft.util.Hand;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.TypedActionResult;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
@@ -45,8 +55,13 @@ import net.minecraft.world.event.GameEvent.Emitter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 
@@ -82,6 +97,48 @@ public interface Sprayed extends Client, Custom {
      * @since 2.0.0
      */
     SoundContext REFILL_SOUND = new SoundContext(SoundEvents.ITEM_BOTTLE_FILL, SoundCategory.NEUTRAL);
+    /**
+     * The cosine of the angle between the center and the edge of a mist cone.
+     *
+     * @since 2.3.0
+     */
+    double MIST_CONE_COSINE = 0.5D;
+
+    /**
+     * Returns all of the given entity's cached {@link ActionOnSprayPower}s, sorted by descending priority.
+     * <p>
+     * This includes inactive powers, which must be skipped by the caller.
+     *
+     * @param entity The entity, or {@code null} if there is no entity.
+     *
+     * @return An immutable list of powers.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    private static List<ActionOnSprayPower> getOnSprayPowers(@Nullable Entity entity) {
+        if (!(entity instanceof final LivingEntity living)) return List.of();
+
+        return ((AstralLivingEntity) living).astral$getOnSprayPowers();
+    }
+
+    /**
+     * Returns all of the given entity's cached {@link ActionWhenSprayedPower}s, sorted by descending priority.
+     * <p>
+     * This includes inactive powers, which must be skipped by the caller.
+     *
+     * @param entity The entity, or {@code null} if there is no entity.
+     *
+     * @return An immutable list of powers.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    private static List<ActionWhenSprayedPower> getWhenSprayedPowers(@Nullable Entity entity) {
+        if (!(entity instanceof final LivingEntity living)) return List.of();
+
+        return ((AstralLivingEntity) living).astral$getWhenSprayedPowers();
+    }
 
     /**
      * Adds a new behavior to this spray item.
@@ -95,7 +152,17 @@ public interface Sprayed extends Client, Custom {
     <T extends SprayTarget> void addBehavior(Class<T> type, Behavior<T> behavior);
 
     /**
-     * Returns a list of behaviors for this spray item.
+     * Adds a new block behavior to this spray item that is only evaluated for blocks of the given type.
+     *
+     * @param blockType The class or interface that a sprayed block must extend or implement.
+     * @param behavior The block behavior.
+     *
+     * @since 2.3.0
+     */
+    void addBlockBehavior(Class<?> blockType, Behavior<BlockTarget> behavior);
+
+    /**
+     * Returns an immutable list of behaviors for this spray item, sorted by descending priority.
      *
      * @param type The class of the behavior's expected target type.
      * @param <T> The behavior's expected target type.
@@ -106,6 +173,18 @@ public interface Sprayed extends Client, Custom {
      */
     <T extends SprayTarget> List<Behavior<T>> getBehaviors(Class<T> type);
 
+    /**
+     * Returns an immutable list of the block behaviors that may apply to the given block state, sorted by descending
+     * priority.
+     *
+     * @param state The sprayed block state.
+     *
+     * @return A list of behaviors.
+     *
+     * @since 2.3.0
+     */
+    List<Behavior<BlockTarget>> getBehaviors(BlockState state);
+
     /**
      * Returns the data used within a spray item's model in order to determine its current texture.
      * <p>
@@ -167,6 +246,26 @@ public interface Sprayed extends Client, Custom {
         return 40;
     }
 
+    /**
+     * Returns the radius, in blocks, of the mist sprayed by the given item stack.
+     * <p>
+     * A value of less than or equal to {@code 0} should be interpreted as the item being unable to mist.
+     * <p>
+     * The default implementation returns the value of the {@link AstralGamerules#SPRAY_MIST_RADIUS} gamerule.
+     *
+     * @param world The current world.
+     * @param stack The item stack.
+     *
+     * @return The radius in blocks.
+     *
+     * @since 2.3.0
+     */
+    default int getMistRadius(World world, ItemStack stack) {
+        if (!(stack.getItem() instanceof Sprayed)) return 0;
+
+        return world.getGameRules().getInt(AstralGamerules.SPRAY_MIST_RADIUS);
+    }
+
     /**
      * Returns the maximum number of times the given item stack may be sprayed before requiring a refill.
      * <p>
@@ -329,22 +428,18 @@ public interface Sprayed extends Client, Custom {
         if (!this.isSprayable(source.stack(), charges)) return false;
 
         // Return true if the stack has any valid behaviors.
-        if (this.getBehaviors(EntityTarget.class).stream().anyMatch(b -> b.predicate().test(source, target))) {
-            return true;
+        for (final Behavior<EntityTarget> behavior : this.getBehaviors(EntityTarget.class)) {
+            if (behavior.predicate().test(source, target)) return true;
         }
 
         // Return true if the target has any valid `astral:action_when_sprayed` powers.
-        if (PowerHolderComponent.getPowers(target.target(), ActionWhenSprayedPower.class)
-            .stream()
-            .anyMatch(p -> p.canSpray(source.actor(), source.stack()))) {
-            return true;
+        for (final ActionWhenSprayedPower power : getWhenSprayedPowers(target.target())) {
+            if (power.isActive() && power.canSpray(source.actor(), source.stack())) return true;
         }
 
         // Return true if the entity has any valid `astral:action_on_sprayed` powers.
-        if (PowerHolderComponent.getPowers(source.actor(), ActionOnSprayPower.class)
-            .stream()
-            .anyMatch(p -> p.canSpray(target.target(), source.stack()))) {
-            return true;
+        for (final ActionOnSprayPower power : getOnSprayPowers(source.actor())) {
+            if (power.isActive() && power.canSpray(target.target(), source.stack())) return true;
         }
 
         return target.target() instanceof SprayableEntity && this.getDuration(source.stack()) > 0;
@@ -365,76 +460,52 @@ public interface Sprayed extends Client, Custom {
         if (!this.isSprayable(source.stack(), charges)) return false;
 
         // Return true if the entity has any valid `astral:action_on_sprayed` powers.
-        if (PowerHolderComponent.getPowers(source.actor(), ActionOnSprayPower.class)
-            .stream()
-            .anyMatch(p -> p.canSpray(target.world(), target.pos(), source.stack()))) {
-            return true;
+        for (final ActionOnSprayPower power : getOnSprayPowers(source.actor())) {
+            if (power.isActive() && power.canSpray(target.world(), target.pos(), source.stack())) return true;
         }
 
-        // Return true if the stack has any valid behaviors.
-        return this.getBehaviors(BlockTarget.class).stream().anyMatch(b -> b.predicate().test(source, target));
+        // Return true if the stack has any valid behaviors for the targeted block.
+        for (final Behavior<BlockTarget> behavior : this.getBehaviors(target.state())) {
+            if (behavior.predicate().test(source, target)) return true;
+        }
+
+        return false;
     }
 
     /**
-     * Runs actions on a sprayed target, returning a result.
+     * Evaluates every candidate for spraying the target entity exactly once, recording each match in the given buffer.
+     * <p>
+     * Candidates are recorded in the order that their actions should be run. No actions are run by this method; see
+     * {@link #execute(Source, EntityTarget, SprayBuffer)}.
      *
      * @param source The spray source.
      * @param target The spray target.
-     * @param silent Whether the spray sound should be skipped.
+     * @param buffer The buffer that matches are recorded in.
      *
-     * @return The spray result.
-     *
-     * @since 2.0.0
+     * @since 2.3.0
      */
-    default SprayResult onSpray(Source source, EntityTarget target, boolean silent) {
-        final List<Runnable> actions = new ObjectArrayList<>();
-        int charges = 0;
-
-        // Sort by behavior priority in descending order.
-        final List<Behavior<EntityTarget>> behaviors = this.getBehaviors(EntityTarget.class)
-            .stream()
-            .sorted(Comparator.comparingInt(Behavior<EntityTarget>::priority).reversed())
-            .toList();
-
-        for (final Behavior<EntityTarget> behavior : behaviors.stream()
-            .sorted(Comparator.comparingInt(Behavior<EntityTarget>::priority).reversed())
-            .toList()) {
+    default void evaluate(Source source, EntityTarget target, SprayBuffer buffer) {
+        // Behaviors are already sorted by priority in descending order.
+        for (final Behavior<EntityTarget> behavior : this.getBehaviors(EntityTarget.class)) {
             if (!behavior.predicate().test(source, target)) continue;
 
-            actions.add(() -> behavior.action().accept(source, target));
-            charges = Math.max(charges, behavior.charges());
+            buffer.add(behavior, behavior.charges());
 
             if (behavior.cancelling()) break;
         }
 
-        // Sort by power priority in descending order.
-        final List<ActionWhenSprayedPower> targetPowers = PowerHolderComponent.getPowers(target.target(),
-                ActionWhenSprayedPower.class
-            )
-            .stream()
-            .sorted(Comparator.comparingInt(ActionWhenSprayedPower::getPriority).reversed())
-            .toList();
+        // Cached powers are already sorted by priority in descending order.
+        for (final ActionWhenSprayedPower power : getWhenSprayedPowers(target.target())) {
+            if (!power.isActive() || !power.canSpray(source.actor(), source.stack())) continue;
 
-        for (final ActionWhenSprayedPower power : targetPowers) {
-            if (!power.canSpray(source.actor(), source.stack())) continue;
-
-            actions.add(() -> power.onSpray(source.actor(), source.stack()));
-            charges = Math.max(charges, power.getCharges());
+            buffer.add(power, power.getCharges());
         }
 
-        // Sort by power priority in descending order.
-        final List<ActionOnSprayPower> actorPowers = PowerHolderComponent.getPowers(source.actor(),
-                ActionOnSprayPower.class
-            )
-            .stream()
-            .sorted(Comparator.comparingInt(ActionOnSprayPower::getPriority).reversed())
-            .toList();
-
-        for (final ActionOnSprayPower power : actorPowers) {
-            if (!power.canSpray(target.target(), source.stack())) continue;
+        // Cached powers are already sorted by priority in descending order.
+        for (final ActionOnSprayPower power : getOnSprayPowers(source.actor())) {
+            if (!power.isActive() || !power.canSpray(target.target(), source.stack())) continue;
 
-            actions.add(() -> power.onSpray(target.target(), source.stack()));
-            charges = Math.max(charges, power.getCharges());
+            buffer.add(power, power.getCharges());
         }
 
         if (target.target() instanceof final SprayableEntity sprayable) {
@@ -442,17 +513,99 @@ public interface Sprayed extends Client, Custom {
 
             // Only spray on the server-side. This avoids weird behaviors when called on the client.
             if (duration > 0 && sprayable.astral$canSpray() && !target.target().getWorld().isClient()) {
-                actions.add(() -> sprayable.astral$setSprayed(source.actor(), duration));
+                buffer.add(sprayable, sprayable.astral$getSprayCharges());
+            }
+        }
+    }
+
+    /**
+     * Evaluates every candidate for spraying the target block exactly once, recording each match in the given buffer.
+     * <p>
+     * Candidates are recorded in the order that their actions should be run. No actions are run by this method; see
+     * {@link #execute(Source, BlockTarget, SprayBuffer)}.
+     *
+     * @param source The spray source.
+     * @param target The spray target.
+     * @param buffer The buffer that matches are recorded in.
+     *
+     * @since 2.3.0
+     */
+    default void evaluate(Source source, BlockTarget target, SprayBuffer buffer) {
+        // Behaviors are already sorted by priority in descending order, and only include those for the targeted block.
+        for (final Behavior<BlockTarget> behavior : this.getBehaviors(target.state())) {
+            if (!behavior.predicate().test(source, target)) continue;
 
-                charges = Math.max(charges, sprayable.astral$getSprayCharges());
+            buffer.add(behavior, behavior.charges());
+
+            if (behavior.cancelling()) break;
+        }
+
+        // This is shared between all powers, and only created if at least one of them is active.
+        CachedBlockPosition block = null;
+
+        // Cached powers are already sorted by priority in descending order.
+        for (final ActionOnSprayPower power : getOnSprayPowers(source.actor())) {
+            if (!power.isActive()) continue;
+            if (block == null) block = new CachedBlockPosition(target.world(), target.pos(), true);
+            if (!power.canSpray(block, source.stack())) continue;
+
+            buffer.add(power, power.getCharges());
+        }
+    }
+
+    /**
+     * Runs the actions of every match recorded in the given buffer against the target entity.
+     *
+     * @param source The spray source.
+     * @param target The spray target.
+     * @param buffer The buffer populated by {@link #evaluate(Source, EntityTarget, SprayBuffer)}.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    default void execute(Source source, EntityTarget target, SprayBuffer buffer) {
+        for (int index = 0; index < buffer.size(); index += 1) {
+            final Object match = buffer.get(index);
+
+            if (match instanceof final Behavior<?> behavior) {
+                ((Behavior<EntityTarget>) behavior).action().accept(source, target);
+            } else if (match instanceof final ActionWhenSprayedPower power) {
+                power.onSpray(source.actor(), source.stack());
+            } else if (match instanceof final ActionOnSprayPower power) {
+                power.onSpray(target.target(), source.stack());
+            } else if (match instanceof final SprayableEntity sprayable) {
+                sprayable.astral$setSprayed(source.actor(), this.getDuration(source.stack()));
             }
         }
+    }
 
-        return new SprayResult(charges, source.position(), actions, silent);
+    /**
+     * Runs the actions of every match recorded in the given buffer against the target block.
+     *
+     * @param source The spray source.
+     * @param target The spray target.
+     * @param buffer The buffer populated by {@link #evaluate(Source, BlockTarget, SprayBuffer)}.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("unchecked")
+    default void execute(Source source, BlockTarget target, SprayBuffer buffer) {
+        for (int index = 0; index < buffer.size(); index += 1) {
+            final Object match = buffer.get(index);
+
+            if (match instanceof final Behavior<?> behavior) {
+                ((Behavior<BlockTarget>) behavior).action().accept(source, target);
+            } else if (match instanceof final ActionOnSprayPower power) {
+                power.onSpray(target.world(), target.pos(), target.side(), source.stack());
+            }
+        }
     }
 
     /**
-     * Runs actions on a sprayed block, returning a result.
+     * Runs actions on a sprayed target, returning a result.
+     * <p>
+     * The spray methods evaluate targets directly through {@link #evaluate(Source, EntityTarget, SprayBuffer)}, so
+     * this is only provided for callers that need a deferred result.
      *
      * @param source The spray source.
      * @param target The spray target.
@@ -462,46 +615,52 @@ public interface Sprayed extends Client, Custom {
      *
      * @since 2.0.0
      */
-    default SprayResult onSpray(Source source, BlockTarget target, boolean silent) {
-        final List<Runnable> actions = new ObjectArrayList<>();
-        int charges = 0;
-
-        // Sort by behavior priority in descending order.
-        final List<Behavior<BlockTarget>> behaviors = this.getBehaviors(BlockTarget.class)
-            .stream()
-            .sorted(Comparator.comparingInt(Behavior<BlockTarget>::priority).reversed())
-            .toList();
+    default SprayResult onSpray(Source source, EntityTarget target, boolean silent) {
+        // The buffer is captured by the result's action, so the shared buffer cannot be used here.
+        final SprayBuffer buffer = new SprayBuffer();
 
-        for (final Behavior<BlockTarget> behavior : behaviors) {
-            if (!behavior.predicate().test(source, target)) continue;
+        this.evaluate(source, target, buffer);
 
-            actions.add(() -> behavior.action().accept(source, target));
-            charges = Math.max(charges, behavior.charges());
+        final List<Runnable> actions = buffer.isEmpty()
+            ? List.of()
+            : List.of(() -> this.execute(source, target, buffer));
 
-            if (behavior.cancelling()) break;
-        }
+        return new SprayResult(buffer.charges(), source.position(), actions, silent);
+    }
 
-        // Sort by power priority in descending order.
-        final List<ActionOnSprayPower> powers = PowerHolderComponent.getPowers(source.actor(), ActionOnSprayPower.class)
-            .stream()
-            .sorted(Comparator.comparingInt(ActionOnSprayPower::getPriority).reversed())
-            .toList();
+    /**
+     * Runs actions on a sprayed block, returning a result.
+     * <p>
+     * The spray methods evaluate targets directly through {@link #evaluate(Source, BlockTarget, SprayBuffer)}, so
+     * this is only provided for callers that need a deferred result.
+     *
+     * @param source The spray source.
+     * @param target The spray target.
+     * @param silent Whether the spray sound should be skipped.
+     *
+     * @return The spray result.
+     *
+     * @since 2.0.0
+     */
+    default SprayResult onSpray(Source source, BlockTarget target, boolean silent) {
+        // The buffer is captured by the result's action, so the shared buffer cannot be used here.
+        final SprayBuffer buffer = new SprayBuffer();
 
-        for (final ActionOnSprayPower power : powers) {
-            if (!power.canSpray(target.world(), target.pos(), source.stack())) continue;
+        this.evaluate(source, target, buffer);
 
-            actions.add(() -> power.onSpray(target.world(), target.pos(), target.side(), source.stack()));
-            charges = Math.max(charges, power.getCharges());
-        }
+        final List<Runnable> actions = buffer.isEmpty()
+            ? List.of()
+            : List.of(() -> this.execute(source, target, buffer));
 
-        return new SprayResult(charges, source.position(), actions, silent);
+        return new SprayResult(buffer.charges(), source.position(), actions, silent);
     }
 
     /**
      * Sprays a target entity.
      * <p>
      * This method should not be overwritten directly, instead you should prefer overwriting
-     * {@link Sprayed#onSpray(Source, EntityTarget, boolean)}.
+     * {@link Sprayed#evaluate(Source, EntityTarget, SprayBuffer)} and
+     * {@link Sprayed#execute(Source, EntityTarget, SprayBuffer)}.
      *
      * @param stack The item stack.
      * @param actor The actor entity.
@@ -518,15 +677,28 @@ public interface Sprayed extends Client, Custom {
 
         final Source source = new Source(stack, actor, from);
         final EntityTarget sprayTarget = new EntityTarget(target);
+        final SprayBuffer buffer = SprayBuffer.acquire();
+
+        try {
+            this.evaluate(source, sprayTarget, buffer);
+
+            if (!this.canConsume(source, buffer.charges(), buffer.isEmpty())) return false;
+
+            this.execute(source, sprayTarget, buffer);
+            this.finishSpray(source, target.getWorld(), buffer.charges(), silent);
 
-        return this.spray(source, target.getWorld(), this.onSpray(source, sprayTarget, silent));
+            return true;
+        } finally {
+            buffer.release();
+        }
     }
 
     /**
      * Sprays a block.
      * <p>
      * This method should not be overwritten directly, instead you should prefer overwriting
-     * {@link Sprayed#onSpray(Source, BlockTarget, boolean)}.
+     * {@link Sprayed#evaluate(Source, BlockTarget, SprayBuffer)} and
+     * {@link Sprayed#execute(Source, BlockTarget, SprayBuffer)}.
      *
      * @param stack The item stack.
      * @param actor The actor entity.
@@ -553,8 +725,20 @@ public interface Sprayed extends Client, Custom {
 
         final Source source = new Source(stack, actor, from);
         final BlockTarget target = new BlockTarget(world, pos, side);
+        final SprayBuffer buffer = SprayBuffer.acquire();
+
+        try {
+            this.evaluate(source, target, buffer);
 
-        return this.spray(source, world, this.onSpray(source, target, silent));
+            if (!this.canConsume(source, buffer.charges(), buffer.isEmpty())) return false;
+
+            this.execute(source, target, buffer);
+            this.finishSpray(source, world, buffer.charges(), silent);
+
+            return true;
+        } finally {
+            buffer.release();
+        }
     }
 
     /**
@@ -572,20 +756,53 @@ public interface Sprayed extends Client, Custom {
      * @since 2.0.0
      */
     default boolean spray(Source source, World world, SprayResult result) {
-        if (result.charges() == 0 || result.actions().isEmpty()) return false;
-        if (!this.isSprayable(source.stack(), result.charges())) return false;
+        if (!this.canConsume(source, result.charges(), result.actions().isEmpty())) return false;
 
-        // Execute the result's stored actions.
-        result.accept(source.stack(), (s, charges) -> {
-            // Don't consume if the actor is in creative mode.
-            if (source.actor() instanceof final PlayerEntity player && player.isCreative()) return;
+        result.actions().forEach(Runnable::run);
 
+        this.finishSpray(source, world, result.charges(), result.silent());
+
+        return true;
+    }
+
+    /**
+     * Returns whether a spray that matched at least one action may consume the given number of charges.
+     *
+     * @param source The spray source.
+     * @param charges The number of charges.
+     * @param empty Whether the spray did not match any actions.
+     *
+     * @return Whether the spray may proceed.
+     *
+     * @since 2.3.0
+     */
+    private boolean canConsume(Source source, int charges, boolean empty) {
+        return charges != 0 && !empty && this.isSprayable(source.stack(), charges);
+    }
+
+    /**
+     * Consumes charges from the sprayed stack, updates the actor's statistics and cooldown, and plays the spray sound.
+     * <p>
+     * This should be called after a spray's actions have been run.
+     *
+     * @param source The spray source.
+     * @param world The current world.
+     * @param charges The number of charges to consume.
+     * @param silent Whether the spray sound should be skipped.
+     *
+     * @since 2.3.0
+     */
+    private void finishSpray(Source source, World world, int charges, boolean silent) {
+        // Don't consume if the actor is in creative mode.
+        final boolean creative = source.actor() instanceof final PlayerEntity player && player.isCreative();
+
+        if (!creative) {
             if (source.actor() instanceof final ServerPlayerEntity player) {
                 source.stack().damage(charges, world.getRandom(), player);
             } else {
                 source.stack().damage(charges, world.getRandom(), null);
             }
-        });
+        }
 
         if (source.actor() instanceof final PlayerEntity player) {
             player.incrementStat(Stats.USED.getOrCreateStat(source.stack().getItem()));
@@ -593,17 +810,165 @@ public interface Sprayed extends Client, Custom {
             player.getItemCooldownManager().set(source.stack().getItem(), this.getCooldown(source.stack()));
         }
 
-        if (result.silent()) return true;
+        if (silent) return;
 
         if (source.actor() == null) {
             SPRAY_SOUND.play(world, source.position());
         } else if (!source.actor().isSilent()) {
             SPRAY_SOUND.play(world, source.actor());
         }
+    }
+
+    /**
+     * Sprays a mist, spraying every eligible entity and block within it.
+     * <p>
+     * All entities within the mist are found using a single query, and blocks are only evaluated if they have indexed
+     * behaviors or if the actor has an active {@link ActionOnSprayPower}. Each target consumes its own charges, and if
+     * the stack cannot afford every target, only the nearest targets are sprayed. The spray sound and particles are
+     * only played once, regardless of the number of targets.
+     * <p>
+     * This does nothing on the client.
+     *
+     * @param stack The item stack.
+     * @param actor The actor entity.
+     * @param world The current world.
+     * @param mist The sprayed mist.
+     * @param silent Whether the spray sound should be skipped.
+     *
+     * @return Whether any targets were sprayed.
+     *
+     * @since 2.3.0
+     */
+    default boolean mist(ItemStack stack, @Nullable LivingEntity actor, World world, Mist mist, boolean silent) {
+        if (world.isClient() || !this.isSprayable(stack)) return false;
+
+        final Source source = new Source(stack, actor, mist.origin());
+        final Box box = mist.getBox();
+        final List<MistHit> hits = new ObjectArrayList<>();
+
+        for (final Entity entity : world.getOtherEntities(actor, box, EntityPredicates.EXCEPT_SPECTATOR)) {
+            final Vec3d center = entity.getBoundingBox().getCenter();
+
+            if (!mist.contains(center.getX(), center.getY(), center.getZ())) continue;
+
+            final EntityTarget target = new EntityTarget(entity);
+            final SprayBuffer buffer = new SprayBuffer();
+
+            this.evaluate(source, target, buffer);
+
+            if (buffer.charges() > 0) hits.add(new MistHit(target, buffer, target.distance(source)));
+        }
+
+        boolean blockPowers = false;
+
+        for (final ActionOnSprayPower power : getOnSprayPowers(actor)) {
+            if (!power.isActive()) continue;
+
+            blockPowers = true;
+
+            break;
+        }
+
+        final BlockPos min = BlockPos.ofFloored(box.minX, box.minY, box.minZ);
+        final BlockPos max = BlockPos.ofFloored(box.maxX, box.maxY, box.maxZ);
+
+        for (final BlockPos pos : BlockPos.iterate(min, max)) {
+            final double x = pos.getX() + 0.5D;
+            final double y = pos.getY() + 0.5D;
+            final double z = pos.getZ() + 0.5D;
+
+            if (!mist.contains(x, y, z)) continue;
+
+            final BlockState state = world.getBlockState(pos);
+
+            // Skip blocks that nothing could possibly match before allocating a target.
+            if (state.isAir() || (!blockPowers && this.getBehaviors(state).isEmpty())) continue;
+
+            final Vec3d origin = mist.origin();
+            final Direction side = Direction.getFacing((float) (origin.getX() - x),
+                (float) (origin.getY() - y),
+                (float) (origin.getZ() - z)
+            );
+            final BlockTarget target = new BlockTarget(world, pos.toImmutable(), side);
+            final SprayBuffer buffer = new SprayBuffer();
+
+            this.evaluate(source, target, buffer);
+
+            if (buffer.charges() > 0) hits.add(new MistHit(target, buffer, target.distance(source)));
+        }
+
+        hits.sort(Comparator.comparingDouble(MistHit::distance));
+
+        final boolean creative = actor instanceof final PlayerEntity player && player.isCreative();
+        final int available = creative ? Integer.MAX_VALUE : this.getCharges(stack);
+        int charges = 0;
+        int sprayed = 0;
+
+        for (final MistHit hit : hits) {
+            if (hit.buffer().charges() > available - charges) break;
+
+            charges += hit.buffer().charges();
+            sprayed += 1;
+        }
+
+        if (sprayed == 0) return false;
+
+        for (final MistHit hit : hits.subList(0, sprayed)) {
+            if (hit.target() instanceof final EntityTarget target) {
+                this.execute(source, target, hit.buffer());
+            } else if (hit.target() instanceof final BlockTarget target) {
+                this.execute(source, target, hit.buffer());
+            }
+        }
+
+        this.finishSpray(source, world, charges, silent);
+
+        if (world instanceof final ServerWorld serverWorld) {
+            final Vec3d center = mist.getCenter();
+            final double spread = mist.radius() / 3D;
+
+            // A single particle packet is sent for the entire mist.
+            serverWorld.spawnParticles(ParticleTypes.SPLASH,
+                center.getX(),
+                center.getY(),
+                center.getZ(),
+                MathHelper.ceil(mist.radius() * 16D),
+                spread,
+                spread,
+                spread,
+                0D
+            );
+        }
 
         return true;
     }
 
+    /**
+     * Sprays a mist in front of the given player, if the given stack may be misted.
+     * <p>
+     * This is intended to be called from {@link net.minecraft.item.Item#use(World, PlayerEntity, Hand)}.
+     *
+     * @param world The current world.
+     * @param player The player.
+     * @param stack The item stack.
+     *
+     * @return The usage result.
+     *
+     * @since 2.3.0
+     */
+    default TypedActionResult<ItemStack> useMist(World world, PlayerEntity player, ItemStack stack) {
+        final int radius = this.getMistRadius(world, stack);
+
+        if (radius <= 0 || !this.isSprayable(stack)) return TypedActionResult.pass(stack);
+        if (player.getItemCooldownManager().isCoolingDown(stack.getItem())) return TypedActionResult.pass(stack);
+        // Misting is only performed on the server, but the client should still swing the player's hand.
+        if (world.isClient()) return TypedActionResult.success(stack, true);
+
+        if (!this.mist(stack, player, world, Mist.cone(player, radius), false)) return TypedActionResult.pass(stack);
+
+        return TypedActionResult.success(stack, false);
+    }
+
     /**
      * Refills the spray item using the given context.
      *
@@ -667,6 +1032,110 @@ public interface Sprayed extends Client, Custom {
 
     }
 
+    /**
+     * Describes the area covered by a mist, which is either a sphere or a cone.
+     *
+     * @param origin The position that the mist is sprayed from.
+     * @param direction The normalized direction of the mist's cone, or {@code null} if the mist is a sphere.
+     * @param radius The radius of the mist in blocks.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record Mist(Vec3d origin, @Nullable Vec3d direction, double radius) {
+
+        /**
+         * Creates a new cone-shaped mist sprayed from the given entity's eyes in the direction that it is looking.
+         *
+         * @param entity The entity.
+         * @param radius The radius of the mist in blocks.
+         *
+         * @return A new mist.
+         *
+         * @since 2.3.0
+         */
+        public static Mist cone(Entity entity, double radius) {
+            return new Mist(entity.getEyePos(), entity.getRotationVector().normalize(), radius);
+        }
+
+        /**
+         * Creates a new sphere-shaped mist centered on the given position.
+         *
+         * @param origin The center of the mist.
+         * @param radius The radius of the mist in blocks.
+         *
+         * @return A new mist.
+         *
+         * @since 2.3.0
+         */
+        public static Mist sphere(Vec3d origin, double radius) {
+            return new Mist(origin, null, radius);
+        }
+
+        /**
+         * Returns a box that contains the entire mist.
+         *
+         * @return A bounding box.
+         *
+         * @since 2.3.0
+         */
+        public Box getBox() {
+            return new Box(this.origin(), this.origin()).expand(this.radius());
+        }
+
+        /**
+         * Returns the visual center of the mist.
+         *
+         * @return The center position.
+         *
+         * @since 2.3.0
+         */
+        public Vec3d getCenter() {
+            if (this.direction() == null) return this.origin();
+
+            return this.origin().add(this.direction().multiply(this.radius() / 2D));
+        }
+
+        /**
+         * Returns whether the given position is within the mist.
+         *
+         * @param x The X position.
+         * @param y The Y position.
+         * @param z The Z position.
+         *
+         * @return Whether the position is within the mist.
+         *
+         * @since 2.3.0
+         */
+        public boolean contains(double x, double y, double z) {
+            final double dx = x - this.origin().getX();
+            final double dy = y - this.origin().getY();
+            final double dz = z - this.origin().getZ();
+            final double distanceSquared = (dx * dx) + (dy * dy) + (dz * dz);
+
+            if (distanceSquared > this.radius() * this.radius()) return false;
+            if (this.direction() == null || distanceSquared == 0D) return true;
+
+            final Vec3d direction = this.direction();
+            final double dot = (dx * direction.getX()) + (dy * direction.getY()) + (dz * direction.getZ());
+
+            return dot >= MIST_CONE_COSINE * Math.sqrt(distanceSquared);
+        }
+
+    }
+
+    /**
+     * Describes a target within a mist that matched at least one action.
+     *
+     * @param target The spray target.
+     * @param buffer The target's recorded matches.
+     * @param distance The target's distance from the spray source.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record MistHit(SprayTarget target, SprayBuffer buffer, double distance) { }
+
     /**
      * Describes the target of a spray invocation.
      *
@@ -783,6 +1252,354 @@ public interface Sprayed extends Client, Custom {
 
     }
 
+    /**
+     * Stores the behaviors registered to a spray item.
+     * <p>
+     * Behaviors may only be added until the registry is frozen, after which they are stored within immutable lists
+     * sorted by descending priority. Block behaviors are additionally indexed by their block type, meaning that a spray
+     * only evaluates the behaviors that could possibly match the targeted block.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class BehaviorRegistry {
+
+        /**
+         * Orders behaviors by descending priority, retaining their registration order otherwise.
+         *
+         * @since 2.3.0
+         */
+        private static final Comparator<Behavior<?>> PRIORITY = Comparator.<Behavior<?>>comparingInt(Behavior::priority)
+            .reversed();
+
+        /**
+         * The non-block behaviors added before this registry was frozen, keyed by their target type.
+         *
+         * @since 2.3.0
+         */
+        private final Map<Class<? extends SprayTarget>, List<Behavior<?>>> pending = new Object2ObjectArrayMap<>();
+        /**
+         * The block behaviors added before this registry was frozen, paired with their block type.
+         *
+         * @since 2.3.0
+         */
+        private final List<Entry<Class<?>, Behavior<BlockTarget>>> pendingBlocks = new ObjectArrayList<>();
+        /**
+         * Caches the block behaviors that may apply to each block class.
+         *
+         * @since 2.3.0
+         */
+        private final ClassValue<List<Behavior<BlockTarget>>> blockIndex = new ClassValue<>() {
+
+            @Override
+            protected List<Behavior<BlockTarget>> computeValue(Class<?> type) {
+                return BehaviorRegistry.this.collectBlockBehaviors(type);
+            }
+
+        };
+
+        /**
+         * The frozen non-block behaviors, keyed by their target type, or {@code null} if not yet frozen.
+         *
+         * @since 2.3.0
+         */
+        private @Nullable Map<Class<? extends SprayTarget>, List<Behavior<?>>> frozen = null;
+        /**
+         * The frozen block behaviors, paired with their block type.
+         *
+         * @since 2.3.0
+         */
+        private List<Entry<Class<?>, Behavior<BlockTarget>>> frozenBlocks = List.of();
+        /**
+         * The frozen block behaviors.
+         *
+         * @since 2.3.0
+         */
+        private List<Behavior<BlockTarget>> frozenBlockBehaviors = List.of();
+
+        /**
+         * Returns whether this registry has been frozen.
+         *
+         * @return Whether this registry is frozen.
+         *
+         * @since 2.3.0
+         */
+        public boolean isFrozen() {
+            return this.frozen != null;
+        }
+
+        /**
+         * Adds a new behavior to this registry.
+         * <p>
+         * Block behaviors added through this method are evaluated for every sprayed block.
+         *
+         * @param type The class of the behavior's target type.
+         * @param behavior The behavior.
+         * @param <T> The behavior's target type.
+         *
+         * @throws IllegalStateException If this registry has been frozen.
+         * @since 2.3.0
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends SprayTarget> void add(Class<T> type, Behavior<T> behavior) throws IllegalStateException {
+            if (type == BlockTarget.class) {
+                this.addBlock(Block.class, (Behavior<BlockTarget>) behavior);
+
+                return;
+            }
+
+            if (this.isFrozen()) throw new IllegalStateException("Spray behaviors may not be added after freezing");
+
+            this.pending.computeIfAbsent(type, t -> new ObjectArrayList<>(1)).add(behavior);
+        }
+
+        /**
+         * Adds a new block behavior to this registry that is only evaluated for blocks of the given type.
+         *
+         * @param blockType The class or interface that a sprayed block must extend or implement.
+         * @param behavior The block behavior.
+         *
+         * @throws IllegalStateException If this registry has been frozen.
+         * @since 2.3.0
+         */
+        public void addBlock(Class<?> blockType, Behavior<BlockTarget> behavior) throws IllegalStateException {
+            if (this.isFrozen()) throw new IllegalStateException("Spray behaviors may not be added after freezing");
+
+            this.pendingBlocks.add(Map.entry(blockType, behavior));
+        }
+
+        /**
+         * Freezes this registry, sorting all added behaviors and preventing any more from being added.
+         * <p>
+         * This does nothing if the registry has already been frozen.
+         *
+         * @since 2.3.0
+         */
+        public void freeze() {
+            if (this.isFrozen()) return;
+
+            final Map<Class<? extends SprayTarget>, List<Behavior<?>>> frozen = new Object2ObjectArrayMap<>();
+
+            for (final Entry<Class<? extends SprayTarget>, List<Behavior<?>>> entry : this.pending.entrySet()) {
+                final List<Behavior<?>> behaviors = new ObjectArrayList<>(entry.getValue());
+
+                behaviors.sort(PRIORITY);
+
+                frozen.put(entry.getKey(), List.copyOf(behaviors));
+            }
+
+            final List<Entry<Class<?>, Behavior<BlockTarget>>> blocks = new ObjectArrayList<>(this.pendingBlocks);
+
+            blocks.sort((a, b) -> PRIORITY.compare(a.getValue(), b.getValue()));
+
+            this.frozenBlocks = List.copyOf(blocks);
+            this.frozenBlockBehaviors = blocks.stream().map(Entry::getValue).toList();
+            this.frozen = Collections.unmodifiableMap(frozen);
+
+            this.pending.clear();
+            this.pendingBlocks.clear();
+        }
+
+        /**
+         * Returns an immutable list of behaviors for the given target type, sorted by descending priority.
+         * <p>
+         * If the registry has not yet been frozen, it is frozen first.
+         *
+         * @param type The class of the behavior's expected target type.
+         * @param <T> The behavior's expected target type.
+         *
+         * @return A list of behaviors.
+         *
+         * @since 2.3.0
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends SprayTarget> List<Behavior<T>> get(Class<T> type) {
+            this.freeze();
+
+            if (type == BlockTarget.class) return (List<Behavior<T>>) (List<?>) this.frozenBlockBehaviors;
+
+            return (List<Behavior<T>>) (List<?>) Objects.requireNonNull(this.frozen).getOrDefault(type, List.of());
+        }
+
+        /**
+         * Returns an immutable list of the block behaviors that may apply to the given block state, sorted by
+         * descending priority.
+         * <p>
+         * If the registry has not yet been frozen, it is frozen first.
+         *
+         * @param state The sprayed block state.
+         *
+         * @return A list of behaviors.
+         *
+         * @since 2.3.0
+         */
+        public List<Behavior<BlockTarget>> get(BlockState state) {
+            this.freeze();
+
+            return this.blockIndex.get(state.getBlock().getClass());
+        }
+
+        /**
+         * Collects the frozen block behaviors that may apply to blocks of the given class.
+         *
+         * @param type The block class.
+         *
+         * @return A list of behaviors.
+         *
+         * @since 2.3.0
+         */
+        private List<Behavior<BlockTarget>> collectBlockBehaviors(Class<?> type) {
+            final List<Behavior<BlockTarget>> behaviors = new ObjectArrayList<>();
+
+            for (final Entry<Class<?>, Behavior<BlockTarget>> entry : this.frozenBlocks) {
+                if (entry.getKey().isAssignableFrom(type)) behaviors.add(entry.getValue());
+            }
+
+            return List.copyOf(behaviors);
+        }
+
+    }
+
+    /**
+     * A reusable buffer that records the matches found while evaluating a spray.
+     * <p>
+     * Each thread shares a single buffer, which is acquired for the duration of a spray and released afterward. If the
+     * shared buffer is already in use, such as when a spray's actions cause another spray, a new buffer is created
+     * instead.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class SprayBuffer {
+
+        /**
+         * The buffer shared by all sprays on each thread.
+         *
+         * @since 2.3.0
+         */
+        private static final ThreadLocal<SprayBuffer> SHARED = ThreadLocal.withInitial(SprayBuffer::new);
+
+        /**
+         * The recorded matches.
+         *
+         * @since 2.3.0
+         */
+        private Object[] matches = new Object[8];
+        /**
+         * The number of recorded matches.
+         *
+         * @since 2.3.0
+         */
+        private int size = 0;
+        /**
+         * The largest number of charges required by any recorded match.
+         *
+         * @since 2.3.0
+         */
+        private int charges = 0;
+        /**
+         * Whether this buffer is currently in use.
+         *
+         * @since 2.3.0
+         */
+        private boolean acquired = false;
+
+        /**
+         * Acquires an empty buffer, which must be released once the spray is complete.
+         *
+         * @return An empty buffer.
+         *
+         * @since 2.3.0
+         */
+        public static SprayBuffer acquire() {
+            final SprayBuffer shared = SHARED.get();
+            final SprayBuffer buffer = shared.acquired ? new SprayBuffer() : shared;
+
+            buffer.acquired = true;
+
+            return buffer;
+        }
+
+        /**
+         * Clears and releases this buffer, allowing it to be acquired again.
+         *
+         * @since 2.3.0
+         */
+        public void release() {
+            // Drop references to the recorded matches so that they may be garbage collected.
+            Arrays.fill(this.matches, 0, this.size, null);
+
+            this.size = 0;
+            this.charges = 0;
+            this.acquired = false;
+        }
+
+        /**
+         * Records a match.
+         *
+         * @param match The matching behavior, power, or entity.
+         * @param charges The number of charges required by the match.
+         *
+         * @since 2.3.0
+         */
+        public void add(Object match, int charges) {
+            if (this.size == this.matches.length) {
+                this.matches = Arrays.copyOf(this.matches, this.size * 2);
+            }
+
+            this.matches[this.size] = match;
+            this.size += 1;
+            this.charges = Math.max(this.charges, charges);
+        }
+
+        /**
+         * Returns the match at the given index.
+         *
+         * @param index The match index.
+         *
+         * @return The match.
+         *
+         * @since 2.3.0
+         */
+        public Object get(int index) {
+            return this.matches[index];
+        }
+
+        /**
+         * Returns the number of recorded matches.
+         *
+         * @return The number of matches.
+         *
+         * @since 2.3.0
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns whether no matches have been recorded.
+         *
+         * @return Whether this buffer is empty.
+         *
+         * @since 2.3.0
+         */
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /**
+         * Returns the largest number of charges required by any recorded match.
+         *
+         * @return The number of charges.
+         *
+         * @since 2.3.0
+         */
+        public int charges() {
+            return this.charges;
+        }
+
+    }
+
     /**
      * The result of spraying an object.
      * <p>
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.listener;
+
+import dev.jaxydog.astral.content.listener.custom.ChallengeTagListener;
+import dev.jaxydog.astral.content.listener.custom.CurrencyScheduler;
+import dev.jaxydog.astral.content.listener.custom.SprayFleePlanner;
+import dev.jaxydog.astral.content.listener.custom.SprayTicker;
+import dev.jaxydog.astral.register.ContentRegistrar;
+
+/**
+ * Contains definitions of all modded-in event listeners.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public final class AstralListeners extends ContentRegistrar {
+
+    /**
+     * The currency exchange scheduler.
+     *
+     * @since 2.3.0
+     */
+    public static final CurrencyScheduler CURRENCY_SCHEDULER = new CurrencyScheduler("currency_scheduler");
+
+    /**
+     * The challenge entity type tag listener.
+     *
+     * @since 2.3.0
+     */
+    public static final ChallengeTagListener CHALLENGE_TAGS = new ChallengeTagListener("challenge_tags");
+
+    /**
+     * The sprayed entity ticker.
+     *
+     * @since 2.3.0
+     */
+    public static final SprayTicker SPRAY_TICKER = new SprayTicker("spray_ticker");
+
+    /**
+     * The sprayed entity flee planner.
+     *
+     * @since 2.3.0
+     */
+    public static final SprayFleePlanner SPRAY_FLEE_PLANNER = new SprayFleePlanner("spray_flee_planner");
+
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.listener.custom;
+
+import dev.jaxydog.astral.Astral;
+import dev.jaxydog.astral.register.Registered.Common;
+import dev.jaxydog.astral.utility.ChallengeHelper;
+import dev.jaxydog.astral.utility.injected.AstralEntityType;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registries;
+
+/**
+ * Caches the challenge scaling eligibility of each entity type whenever tags are loaded.
+ * <p>
+ * This type is automatically registered.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class ChallengeTagListener implements Common {
+
+    /**
+     * The listener's identifier path used within the registration system.
+     *
+     * @since 2.3.0
+     */
+    private final String path;
+
+    /**
+     * Creates a new challenge tag listener.
+     *
+     * @param path The listener's identifier path.
+     *
+     * @since 2.3.0
+     */
+    public ChallengeTagListener(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Updates the cached eligibility of every entity type from the {@link ChallengeHelper#SCALED_ENTITIES} tag.
+     *
+     * @param registries The loaded registries.
+     * @param client Whether the tags were received by a client.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    private void update(DynamicRegistryManager registries, boolean client) {
+        int scaled = 0;
+
+        for (final EntityType<?> type : Registries.ENTITY_TYPE) {
+            final boolean eligible = type.isIn(ChallengeHelper.SCALED_ENTITIES);
+
+            ((AstralEntityType) type).astral$setChallengeScaled(eligible);
+
+            if (eligible) scaled += 1;
+        }
+
+        if (!client) Astral.LOGGER.info("Cached challenge scaling for {} entity types", scaled);
+    }
+
+    @Override
+    public String getRegistryPath() {
+        return this.path;
+    }
+
+    @Override
+    public void registerCommon() {
+        CommonLifecycleEvents.TAGS_LOADED.register(this::update);
+    }
+
+}
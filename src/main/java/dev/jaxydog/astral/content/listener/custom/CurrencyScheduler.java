@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.listener.custom;
+
+import dev.jaxydog.astral.content.AstralGamerules;
+import dev.jaxydog.astral.register.Registered.Common;
+import dev.jaxydog.astral.utility.CurrencyHelper;
+import dev.jaxydog.astral.utility.injected.AstralPlayerInventory;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.world.GameRules;
+
+import java.util.UUID;
+
+/**
+ * Schedules currency exchanges, spreading them across multiple server ticks.
+ * <p>
+ * Players with pending exchanges are placed within a queue that is drained at the end of each server tick in a
+ * round-robin order. Each tick is limited by both the {@link AstralGamerules#CURRENCY_EXCHANGES_PER_TICK} and
+ * {@link AstralGamerules#CURRENCY_EXCHANGE_BUDGET} gamerules, and no player is exchanged more than once per tick.
+ * <p>
+ * Pending exchanges are flushed immediately whenever a player disconnects or opens a container.
+ * <p>
+ * This type is automatically registered.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class CurrencyScheduler implements Common {
+
+    /**
+     * The scheduler's identifier path used within the registration system.
+     *
+     * @since 2.3.0
+     */
+    private final String path;
+
+    /**
+     * The identifiers of all players with a queued exchange, in the order that they were queued.
+     *
+     * @since 2.3.0
+     */
+    private final ObjectLinkedOpenHashSet<UUID> queue = new ObjectLinkedOpenHashSet<>();
+
+    /**
+     * Creates a new currency exchange scheduler.
+     *
+     * @param path The scheduler's identifier path.
+     *
+     * @since 2.3.0
+     */
+    public CurrencyScheduler(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Schedules an exchange for the given player if their inventory has been modified since its last exchange.
+     * <p>
+     * If exchanges are not deferred, the exchange is performed immediately.
+     *
+     * @param player The player.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    public void schedule(PlayerEntity player) {
+        if (!(player instanceof final ServerPlayerEntity serverPlayer)) return;
+        if (!((AstralPlayerInventory) player.getInventory()).astral$hasPendingExchange()) return;
+
+        final GameRules gameRules = serverPlayer.getServerWorld().getGameRules();
+
+        if (gameRules.getBoolean(AstralGamerules.CURRENCY_DEFER_EXCHANGES)) {
+            this.queue.add(player.getUuid());
+        } else {
+            CurrencyHelper.tryExchangeIfModified(player);
+        }
+    }
+
+    /**
+     * Immediately performs any pending exchange for the given player.
+     *
+     * @param player The player.
+     *
+     * @since 2.3.0
+     */
+    public void flush(ServerPlayerEntity player) {
+        if (this.queue.remove(player.getUuid())) CurrencyHelper.tryExchangeIfModified(player);
+    }
+
+    /**
+     * Performs as many queued exchanges as the configured budgets allow.
+     * <p>
+     * At least one queued exchange is always performed, ensuring that the queue is eventually drained regardless of
+     * the configured time budget.
+     *
+     * @param server The server instance.
+     *
+     * @since 2.3.0
+     */
+    private void drain(MinecraftServer server) {
+        if (this.queue.isEmpty()) return;
+
+        final GameRules gameRules = server.getGameRules();
+        // Only players that were queued at the start of this tick are exchanged, preventing any player from being
+        // exchanged more than once per tick.
+        final int limit = Math.min(this.queue.size(), gameRules.getInt(AstralGamerules.CURRENCY_EXCHANGES_PER_TICK));
+        final long budget = gameRules.getInt(AstralGamerules.CURRENCY_EXCHANGE_BUDGET) * 1_000L;
+        final long start = System.nanoTime();
+
+        for (int index = 0; index < limit; index += 1) {
+            if (index > 0 && budget > 0L && System.nanoTime() - start >= budget) break;
+
+            final ServerPlayerEntity player = server.getPlayerManager().getPlayer(this.queue.removeFirst());
+
+            if (player != null) CurrencyHelper.tryExchangeIfModified(player);
+        }
+    }
+
+    @Override
+    public String getRegistryPath() {
+        return this.path;
+    }
+
+    @Override
+    public void registerCommon() {
+        ServerTickEvents.END_SERVER_TICK.register(this::drain);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> this.flush(handler.getPlayer()));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> this.queue.clear());
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.listener.custom;
+
+import dev.jaxydog.astral.content.AstralGamerules;
+import dev.jaxydog.astral.register.Registered.Common;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Coordinates the flee pathfinding of sprayed entities.
+ * <p>
+ * Each world has a limited number of flee path searches that may be started every tick, configured by the
+ * {@link AstralGamerules#SPRAY_FLEE_PATHS_PER_TICK} gamerule, and any entities that exceed it are expected to retry
+ * on a later tick. Flee targets are also shared between nearby entities that were sprayed by the same source, allowing
+ * them to skip searching for their own target.
+ * <p>
+ * This type is automatically registered.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class SprayFleePlanner implements Common {
+
+    /**
+     * The number of ticks that a shared flee target remains usable.
+     *
+     * @since 2.3.0
+     */
+    public static final int SHARE_TICKS = 20;
+    /**
+     * The maximum distance, in blocks, between an entity and the entity that found a flee target for it to be shared.
+     *
+     * @since 2.3.0
+     */
+    public static final double SHARE_DISTANCE = 6D;
+    /**
+     * The maximum number of flee targets shared for each spray source.
+     *
+     * @since 2.3.0
+     */
+    public static final int MAX_SHARED_TARGETS = 8;
+
+    /**
+     * The planner's identifier path used within the registration system.
+     *
+     * @since 2.3.0
+     */
+    private final String path;
+
+    /**
+     * The planning state of each world.
+     *
+     * @since 2.3.0
+     */
+    private final Map<ServerWorld, State> states = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Creates a new spray flee planner.
+     *
+     * @param path The planner's identifier path.
+     *
+     * @since 2.3.0
+     */
+    public SprayFleePlanner(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the given world's planning state, creating it if necessary.
+     *
+     * @param world The server world.
+     *
+     * @return The world's planning state.
+     *
+     * @since 2.3.0
+     */
+    private State getState(ServerWorld world) {
+        return this.states.computeIfAbsent(world, w -> new State());
+    }
+
+    /**
+     * Attempts to reserve a flee path search within the given world for the current tick.
+     * <p>
+     * If this returns {@code false}, the world's budget has been exhausted, and the search should be deferred to a
+     * later tick.
+     *
+     * @param world The server world.
+     *
+     * @return Whether a path search was reserved.
+     *
+     * @since 2.3.0
+     */
+    public boolean tryReserveSearch(ServerWorld world) {
+        final State state = this.getState(world);
+        final long time = world.getTime();
+
+        if (state.time != time) {
+            state.time = time;
+            state.searches = 0;
+        }
+
+        if (state.searches >= world.getGameRules().getInt(AstralGamerules.SPRAY_FLEE_PATHS_PER_TICK)) return false;
+
+        state.searches += 1;
+
+        return true;
+    }
+
+    /**
+     * Returns a flee target for the given entity that was previously found by a nearby entity sprayed by the same
+     * source.
+     * <p>
+     * The shared target is offset by the distance between the two entities, so that entities that flee together keep
+     * their spacing rather than converging onto a single position.
+     *
+     * @param world The server world.
+     * @param source The spray source.
+     * @param entity The fleeing entity.
+     *
+     * @return A shared flee target, or {@code null} if there are none nearby.
+     *
+     * @since 2.3.0
+     */
+    public @Nullable Vec3d getSharedTarget(ServerWorld world, Entity source, Entity entity) {
+        final State state = this.states.get(world);
+
+        if (state == null) return null;
+
+        final List<SharedTarget> targets = state.targets.get(source);
+
+        if (targets == null) return null;
+
+        final Vec3d position = entity.getPos();
+        final long time = world.getTime();
+
+        for (final SharedTarget target : targets) {
+            if (time - target.time() > SHARE_TICKS) continue;
+            if (target.origin().squaredDistanceTo(position) > SHARE_DISTANCE * SHARE_DISTANCE) continue;
+
+            return target.target().add(position.subtract(target.origin()));
+        }
+
+        return null;
+    }
+
+    /**
+     * Shares a flee target found by the given entity with other nearby entities sprayed by the same source.
+     *
+     * @param world The server world.
+     * @param source The spray source.
+     * @param entity The fleeing entity.
+     * @param target The entity's flee target.
+     *
+     * @since 2.3.0
+     */
+    public void shareTarget(ServerWorld world, Entity source, Entity entity, Vec3d target) {
+        final List<SharedTarget> targets = this.getState(world).targets.computeIfAbsent(source,
+            s -> new ObjectArrayList<>(MAX_SHARED_TARGETS)
+        );
+
+        // Replace the oldest target rather than growing without bound.
+        if (targets.size() >= MAX_SHARED_TARGETS) targets.remove(0);
+
+        targets.add(new SharedTarget(entity.getPos(), target, world.getTime()));
+    }
+
+    /**
+     * Removes all expired shared targets within the given world.
+     *
+     * @param world The server world.
+     *
+     * @since 2.3.0
+     */
+    private void prune(ServerWorld world) {
+        final State state = this.states.get(world);
+
+        if (state == null || state.targets.isEmpty()) return;
+
+        final long time = world.getTime();
+        final Iterator<Entry<Entity, List<SharedTarget>>> iterator = state.targets.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            final Entry<Entity, List<SharedTarget>> entry = iterator.next();
+
+            if (entry.getKey().isRemoved()) {
+                iterator.remove();
+
+                continue;
+            }
+
+            entry.getValue().removeIf(target -> time - target.time() > SHARE_TICKS);
+
+            if (entry.getValue().isEmpty()) iterator.remove();
+        }
+    }
+
+    @Override
+    public String getRegistryPath() {
+        return this.path;
+    }
+
+    @Override
+    public void registerCommon() {
+        ServerTickEvents.END_WORLD_TICK.register(this::prune);
+        ServerWorldEvents.UNLOAD.register((server, world) -> this.states.remove(world));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> this.states.clear());
+    }
+
+    /**
+     * The planning state of a single world.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    private static final class State {
+
+        /**
+         * The shared flee targets for each spray source.
+         *
+         * @since 2.3.0
+         */
+        private final Map<Entity, List<SharedTarget>> targets = new Reference2ObjectOpenHashMap<>();
+
+        /**
+         * The world time that the search count was last reset.
+         *
+         * @since 2.3.0
+         */
+        private long time = Long.MIN_VALUE;
+        /**
+         * The number of searches reserved during the current tick.
+         *
+         * @since 2.3.0
+         */
+        private int searches = 0;
+
+    }
+
+    /**
+     * A flee target found by a sprayed entity.
+     *
+     * @param origin The position of the entity when the target was found.
+     * @param target The flee target.
+     * @param time The world time that the target was found.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    private record SharedTarget(Vec3d origin, Vec3d target, long time) { }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.content.listener.custom;
+
+import dev.jaxydog.astral.register.Registered.Common;
+import dev.jaxydog.astral.utility.injected.SprayableEntity;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ticks the spray status of all currently sprayed entities.
+ * <p>
+ * Entities are tracked within a set for each world once they are sprayed, and are ticked at the end of each world tick
+ * until their spray expires or they are removed from the world. Entities within chunks that do not tick entities are
+ * skipped, matching vanilla entity ticking.
+ * <p>
+ * This type is automatically registered.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public class SprayTicker implements Common {
+
+    /**
+     * The ticker's identifier path used within the registration system.
+     *
+     * @since 2.3.0
+     */
+    private final String path;
+
+    /**
+     * The sprayed entities within each world, in the order that they were sprayed.
+     *
+     * @since 2.3.0
+     */
+    private final Map<ServerWorld, Set<Entity>> sprayed = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Creates a new spray ticker.
+     *
+     * @param path The ticker's identifier path.
+     *
+     * @since 2.3.0
+     */
+    public SprayTicker(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Starts ticking the given entity's spray status if it is sprayed and within a server world.
+     * <p>
+     * This does nothing if the entity is already being ticked.
+     *
+     * @param entity The sprayed entity.
+     * @param <T> The entity's type.
+     *
+     * @since 2.3.0
+     */
+    public <T extends Entity & SprayableEntity> void track(T entity) {
+        if (!(entity.getWorld() instanceof final ServerWorld world)) return;
+        if (!entity.astral$isSprayed()) return;
+
+        this.sprayed.computeIfAbsent(world, w -> new ReferenceLinkedOpenHashSet<>()).add(entity);
+    }
+
+    /**
+     * Ticks the spray status of every sprayed entity within the given world.
+     *
+     * @param world The server world.
+     *
+     * @since 2.3.0
+     */
+    private void tick(ServerWorld world) {
+        final Set<Entity> entities = this.sprayed.get(world);
+
+        if (entities == null || entities.isEmpty()) return;
+
+        final Iterator<Entity> iterator = entities.iterator();
+
+        while (iterator.hasNext()) {
+            final Entity entity = iterator.next();
+
+            // Entities that have been unloaded, killed, or moved to another world are no longer ticked here.
+            final boolean removed = entity.isRemoved() || entity.getWorld() != world;
+
+            if (removed || !(entity instanceof final SprayableEntity sprayable)) {
+                iterator.remove();
+
+                continue;
+            }
+
+            if (!world.shouldTickEntity(entity.getBlockPos())) continue;
+
+            sprayable.astral$sprayTick();
+
+            if (!sprayable.astral$isSprayed()) iterator.remove();
+        }
+    }
+
+    @Override
+    public String getRegistryPath() {
+        return this.path;
+    }
+
+    @Override
+    public void registerCommon() {
+        ServerTickEvents.END_WORLD_TICK.register(this::tick);
+        ServerWorldEvents.UNLOAD.register((server, world) -> this.sprayed.remove(world));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> this.sprayed.clear());
+    }
+
+}
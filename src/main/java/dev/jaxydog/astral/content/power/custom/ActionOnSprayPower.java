@@ -222,12 +222,28 @@ public class ActionOnSprayPower extends AstralPower {
      * @since 1.6.0
      */
     public boolean canSpray(World world, BlockPos pos, ItemStack stack) {
+        return this.canSpray(new CachedBlockPosition(world, pos, true), stack);
+    }
+
+    /**
+     * Returns whether the given block may be sprayed using the given stack.
+     * <p>
+     * This allows a single cached block to be shared when testing multiple powers.
+     *
+     * @param block The cached block.
+     * @param stack The item stack.
+     *
+     * @return Whether the block may be sprayed.
+     *
+     * @since 2.3.0
+     */
+    public boolean canSpray(CachedBlockPosition block, ItemStack stack) {
         // Then ensure that there is an action to run.
         return this.blockAction != null
             // Test the item condition.
             && (this.itemCondition == null || this.itemCondition.test(stack))
-            // Then test the bientity condition.
-            && (this.blockCondition == null || this.blockCondition.test(new CachedBlockPosition(world, pos, true)));
+            // Then test the block condition.
+            && (this.blockCondition == null || this.blockCondition.test(block));
     }
 
     /**
@@ -15,7 +15,6 @@
 package dev.jaxydog.astral.mixin;
 
 import dev.jaxydog.astral.utility.injected.AstralLightningEntity;
-import dev.jaxydog.astral.utility.injected.SprayableEntity;
 import dev.onyxstudios.cca.api.v3.component.ComponentAccess;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.ItemEntity;
@@ -23,16 +22,14 @@ import net.minecraft.entity.LightningEntity;
 import net.minecraft.server.command.CommandOutput;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Nameable;
-import net.minecraft.world.World;
 import net.minecraft.world.entity.EntityLike;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Prevents ground items from being destroyed by preserving lightning, and handles sprayed entity ticking.
+ * Prevents ground items from being destroyed by preserving lightning.
  *
  * @author Jaxydog
  * @since 1.4.0
@@ -40,16 +37,6 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(Entity.class)
 public abstract class EntityMixin implements Nameable, EntityLike, CommandOutput, ComponentAccess {
 
-    /**
-     * Returns the current world.
-     *
-     * @return The current world.
-     *
-     * @since 1.4.0
-     */
-    @Shadow
-    public abstract World getWorld();
-
     /**
      * Prevents ground items from being destroyed by preserving lightning.
      *
@@ -67,19 +54,4 @@ public abstract class EntityMixin implements Nameable, EntityLike, CommandOutput
         }
     }
 
-    /**
-     * Updates an entity's spray status.
-     *
-     * @param callbackInfo The injection callback information.
-     *
-     * @since 1.6.0
-     */
-    @Inject(method = "tick", at = @At("HEAD"))
-    private void tickInject(CallbackInfo callbackInfo) {
-        if (this.getWorld().isClient()) return;
-        if (!(this instanceof final SprayableEntity sprayable)) return;
-
-        sprayable.astral$sprayTick();
-    }
-
 }
@@ -14,6 +14,7 @@
 
 package dev.jaxydog.astral.mixin;
 
+import dev.jaxydog.astral.content.listener.AstralListeners;
 import dev.jaxydog.astral.utility.injected.SprayableEntity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -98,6 +99,9 @@ public abstract class FoxEntityMixin extends AnimalEntity implements SprayableEn
         this.spraySource = source;
         this.sprayDuration = Math.max(0, ticks);
 
+        // Sprayed entities are ticked by their world until the spray expires.
+        AstralListeners.SPRAY_TICKER.track(this);
+
         if (initialSpray && this.astral$isSprayed()) {
             this.playSound(SoundEvents.ENTITY_FOX_SCREECH, 2F, this.getSoundPitch());
 
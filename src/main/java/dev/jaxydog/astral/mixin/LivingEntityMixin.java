@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin;
+
+import dev.jaxydog.astral.content.power.custom.ActionOnSprayPower;
+import dev.jaxydog.astral.content.power.custom.ActionWhenSprayedPower;
+import dev.jaxydog.astral.utility.injected.AstralLivingEntity;
+import io.github.apace100.apoli.component.PowerHolderComponent;
+import io.github.apace100.apoli.power.Power;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.entity.Attackable;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Caches the spray-related powers held by living entities.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityMixin extends Entity implements Attackable, AstralLivingEntity {
+
+    /**
+     * The cached action on spray powers, or {@code null} if they must be collected.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable List<ActionOnSprayPower> onSprayPowers = null;
+    /**
+     * The cached action when sprayed powers, or {@code null} if they must be collected.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable List<ActionWhenSprayedPower> whenSprayedPowers = null;
+
+    /**
+     * Creates a new mixin instance.
+     *
+     * @param type The entity type.
+     * @param world The entity's world.
+     *
+     * @since 2.3.0
+     */
+    public LivingEntityMixin(EntityType<?> type, World world) {
+        super(type, world);
+    }
+
+    /**
+     * Collects all powers of the given type held by this entity, including inactive powers, sorted by descending
+     * priority.
+     *
+     * @param type The power class.
+     * @param priority A function that returns a power's priority.
+     * @param <T> The power type.
+     *
+     * @return An immutable list of powers.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private <T extends Power> List<T> collectSprayPowers(Class<T> type, ToIntFunction<T> priority) {
+        final PowerHolderComponent component = PowerHolderComponent.KEY.getNullable(this);
+
+        if (component == null) return List.of();
+
+        final List<T> powers = new ObjectArrayList<>(component.getPowers(type, true));
+
+        powers.sort(Comparator.comparingInt(priority).reversed());
+
+        return List.copyOf(powers);
+    }
+
+    @Override
+    public List<ActionOnSprayPower> astral$getOnSprayPowers() {
+        if (this.onSprayPowers == null) {
+            this.onSprayPowers = this.collectSprayPowers(ActionOnSprayPower.class, ActionOnSprayPower::getPriority);
+        }
+
+        return this.onSprayPowers;
+    }
+
+    @Override
+    public List<ActionWhenSprayedPower> astral$getWhenSprayedPowers() {
+        if (this.whenSprayedPowers == null) {
+            this.whenSprayedPowers = this.collectSprayPowers(ActionWhenSprayedPower.class,
+                ActionWhenSprayedPower::getPriority
+            );
+        }
+
+        return this.whenSprayedPowers;
+    }
+
+    @Override
+    public void astral$invalidateSprayPowers() {
+        this.onSprayPowers = null;
+        this.whenSprayedPowers = null;
+    }
+
+}
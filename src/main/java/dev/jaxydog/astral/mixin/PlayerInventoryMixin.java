@@ -14,7 +14,8 @@
 
 package dev.jaxydog.astral.mixin;
 
-import dev.jaxydog.astral.utility.CurrencyHelper;
+import dev.jaxydog.astral.content.listener.AstralListeners;
+import dev.jaxydog.astral.utility.injected.AstralPlayerInventory;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.Inventory;
@@ -22,18 +23,21 @@ import net.minecraft.util.Nameable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 /**
- * Attempts to automatically combine currency items within the player's inventory.
+ * Attempts to automatically combine currency items within the player's inventory, and implements the
+ * {@link AstralPlayerInventory} interface.
  *
  * @author Jaxydog
  * @since 1.2.0
  */
 @Mixin(PlayerInventory.class)
-public abstract class PlayerInventoryMixin implements Inventory, Nameable {
+public abstract class PlayerInventoryMixin implements Inventory, Nameable, AstralPlayerInventory {
 
     /**
      * The player instance.
@@ -45,7 +49,104 @@ public abstract class PlayerInventoryMixin implements Inventory, Nameable {
     public PlayerEntity player;
 
     /**
-     * Automatically combines currency items within this inventory once per tick.
+     * Incremented every time this inventory's contents may have been changed.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private int modificationStamp = 0;
+    /**
+     * The modification stamp that was last used for a currency exchange.
+     * <p>
+     * This starts out as an invalid stamp to ensure that newly created inventories are always exchanged once.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private int exchangeStamp = -1;
+
+    @Override
+    public int astral$getModificationStamp() {
+        return this.modificationStamp;
+    }
+
+    @Override
+    public void astral$markModified() {
+        this.modificationStamp += 1;
+    }
+
+    @Override
+    public boolean astral$hasPendingExchange() {
+        return this.exchangeStamp != this.modificationStamp;
+    }
+
+    @Override
+    public void astral$markExchanged() {
+        this.exchangeStamp = this.modificationStamp;
+    }
+
+    /**
+     * Marks this inventory as modified whenever a method that changes its contents is called.
+     *
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(
+        method = {
+            "setStack", "markDirty", "clear", "clone", "dropAll", "removeOne", "readNbt", "addPickBlock",
+            "swapSlotWithHotbar"
+        }, at = @At("HEAD")
+    )
+    private void markModifiedInject(CallbackInfo callbackInfo) {
+        this.astral$markModified();
+    }
+
+    /**
+     * Marks this inventory as modified whenever a stack is removed from it.
+     *
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(
+        method = {
+            "removeStack(I)Lnet/minecraft/item/ItemStack;", "removeStack(II)Lnet/minecraft/item/ItemStack;"
+        }, at = @At("HEAD")
+    )
+    private void markRemovedInject(CallbackInfoReturnable<?> callbackInfo) {
+        this.astral$markModified();
+    }
+
+    /**
+     * Marks this inventory as modified whenever a stack is inserted into it.
+     * <p>
+     * This also covers {@link PlayerInventory#offerOrDrop} and item pickups, which both delegate to this method.
+     *
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "insertStack(ILnet/minecraft/item/ItemStack;)Z", at = @At("HEAD"))
+    private void markInsertedInject(CallbackInfoReturnable<Boolean> callbackInfo) {
+        this.astral$markModified();
+    }
+
+    /**
+     * Marks this inventory as modified whenever matching stacks are removed from it.
+     *
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "remove", at = @At("HEAD"))
+    private void markRemovedMatchingInject(CallbackInfoReturnable<Integer> callbackInfo) {
+        this.astral$markModified();
+    }
+
+    /**
+     * Schedules the automatic combination of currency items within this inventory if it has been modified since the
+     * last exchange.
      *
      * @param callbackInfo The injection callback information.
      *
@@ -53,7 +154,7 @@ public abstract class PlayerInventoryMixin implements Inventory, Nameable {
      */
     @Inject(method = "updateItems", at = @At("TAIL"))
     private void updateItemsInject(CallbackInfo callbackInfo) {
-        CurrencyHelper.tryExchange(this.player);
+        AstralListeners.CURRENCY_SCHEDULER.schedule(this.player);
     }
 
 }
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin;
+
+import dev.jaxydog.astral.utility.injected.AstralLivingEntity;
+import io.github.apace100.apoli.component.PowerHolderComponent;
+import io.github.apace100.apoli.component.PowerHolderComponentImpl;
+import net.minecraft.entity.LivingEntity;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Invalidates an entity's cached spray powers whenever its held powers change.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(value = PowerHolderComponentImpl.class, remap = false)
+public abstract class PowerHolderComponentImplMixin implements PowerHolderComponent {
+
+    /**
+     * The entity that holds this component.
+     *
+     * @since 2.3.0
+     */
+    @Shadow
+    @Final
+    private LivingEntity owner;
+
+    /**
+     * Invalidates the owner's cached spray powers after a power is added or all powers from a source are removed.
+     *
+     * @param callbackInfo The callback information.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    @Inject(method = { "addPower", "removeAllPowersFromSource" }, at = @At("RETURN"))
+    private void powersChangedInject(CallbackInfoReturnable<?> callbackInfo) {
+        ((AstralLivingEntity) this.owner).astral$invalidateSprayPowers();
+    }
+
+    /**
+     * Invalidates the owner's cached spray powers after a power is removed.
+     *
+     * @param callbackInfo The callback information.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    @Inject(method = "removePower", at = @At("RETURN"))
+    private void removePowerInject(CallbackInfo callbackInfo) {
+        ((AstralLivingEntity) this.owner).astral$invalidateSprayPowers();
+    }
+
+    /**
+     * Invalidates the owner's cached spray powers after its powers are loaded or synchronized.
+     *
+     * @param callbackInfo The callback information.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    @Inject(method = "readFromNbt", at = @At("RETURN"))
+    private void readFromNbtInject(CallbackInfo callbackInfo) {
+        ((AstralLivingEntity) this.owner).astral$invalidateSprayPowers();
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin;
+
+import dev.jaxydog.astral.content.listener.AstralListeners;
+import net.minecraft.screen.NamedScreenHandlerFactory;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.OptionalInt;
+
+/**
+ * Flushes pending currency exchanges before a player opens a container.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(ServerPlayerEntity.class)
+public abstract class ServerPlayerEntityMixin {
+
+    /**
+     * Performs any pending currency exchange before a container is opened, ensuring that the player never sees a
+     * partially exchanged inventory.
+     *
+     * @param factory The screen handler factory.
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "openHandledScreen", at = @At("HEAD"))
+    private void openHandledScreenInject(
+        NamedScreenHandlerFactory factory, CallbackInfoReturnable<OptionalInt> callbackInfo
+    ) {
+        AstralListeners.CURRENCY_SCHEDULER.flush((ServerPlayerEntity) (Object) this);
+    }
+
+}
@@ -16,8 +16,7 @@ package dev.jaxydog.astral.mixin;
 
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import dev.jaxydog.astral.utility.CurrencyHelper;
-import dev.jaxydog.astral.utility.CurrencyHelper.Reward;
-import dev.jaxydog.astral.utility.CurrencyHelper.Unit;
+import dev.jaxydog.astral.utility.CurrencyHelper.CurrencySnapshot;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.ShapelessRecipe;
@@ -47,9 +46,10 @@ public abstract class ShapelessRecipeMixin {
         at = @At("RETURN")
     )
     private ItemStack preventExchange(ItemStack stack) {
+        final CurrencySnapshot currencies = CurrencySnapshot.get();
         final Item item = stack.getItem();
 
-        if (Unit.UNITS.find(item).isPresent() || Reward.REWARDS.find(item).isPresent()) {
+        if (currencies.units().contains(item) || currencies.rewards().contains(item)) {
             stack.getOrCreateNbt().putBoolean(CurrencyHelper.EXCHANGE_KEY, false);
         }
 
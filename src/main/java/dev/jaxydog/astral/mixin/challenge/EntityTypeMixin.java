@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin.challenge;
+
+import dev.jaxydog.astral.utility.injected.AstralEntityType;
+import net.minecraft.entity.EntityType;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Implements the {@link AstralEntityType} interface.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(EntityType.class)
+public abstract class EntityTypeMixin implements AstralEntityType {
+
+    /**
+     * Whether this entity type is eligible for challenge scaling.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private boolean challengeScaled = false;
+
+    @Override
+    public boolean astral$isChallengeScaled() {
+        return this.challengeScaled;
+    }
+
+    @Override
+    public void astral$setChallengeScaled(boolean scaled) {
+        this.challengeScaled = scaled;
+    }
+
+}
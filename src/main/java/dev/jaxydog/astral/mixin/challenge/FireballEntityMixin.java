@@ -81,7 +81,7 @@ public abstract class FireballEntityMixin extends AbstractFireballEntity {
     ), index = 4
     )
     private float onCollisionArgsInject(float power) {
-        return ChallengeHelper.getScaledExplosion(this.getOwner(), MAX_POWER, power);
+        return ChallengeHelper.getScaledProjectileExplosion(this, MAX_POWER, power);
     }
 
     /**
@@ -99,7 +99,7 @@ public abstract class FireballEntityMixin extends AbstractFireballEntity {
     ), index = 1
     )
     private float onEntityHitArgsInject(float damage) {
-        return ChallengeHelper.getScaledAttack(this.getOwner(), damage);
+        return ChallengeHelper.getScaledProjectileAttack(this, damage);
     }
 
 }
@@ -48,7 +48,7 @@ public interface HoglinMixin {
     )
     )
     private static float tryAttackArgsInject(float damage, @Local(ordinal = 0, argsOnly = true) LivingEntity entity) {
-        return ChallengeHelper.getScaledAttack(entity, damage);
+        return ChallengeHelper.getScaledAttributeAttack(entity, damage);
     }
 
 }
@@ -16,15 +16,24 @@ package dev.jaxydog.astral.mixin.challenge;
 
 import com.llamalad7.mixinextras.injector.ModifyReturnValue;
 import dev.jaxydog.astral.utility.ChallengeHelper;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeZone;
 import dev.jaxydog.astral.utility.injected.AstralLivingEntity;
 import net.minecraft.entity.Attackable;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
+import net.minecraft.entity.attribute.EntityAttributeModifier;
+import net.minecraft.entity.attribute.EntityAttributeModifier.Operation;
+import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.data.TrackedData;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -33,6 +42,8 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.util.UUID;
+
 /**
  * Implements the mob challenge system's health changes.
  *
@@ -67,35 +78,98 @@ public abstract class LivingEntityMixin extends Entity implements Attackable, As
     @Unique
     private boolean ignoreChallengeScaling = false;
     /**
-     * Stores whether the entity needs to reset its health.
+     * Stores the last challenge settings version seen by this entity.
      * <p>
-     * This should only be true if the gamerules are updated or when the entity is first spawned.
+     * If this differs from the current version, the challenge settings have changed since the entity last ticked, and
+     * its health should be reset. This starts out as {@code -1} so that newly spawned entities are always reset.
      *
-     * @since 1.1.1
+     * @since 2.3.0
      */
     @Unique
-    private boolean shouldResetHealth = true;
+    private int lastChallengeVersion = -1;
     /**
-     * Stores whether mob challenge was previously enabled to determine whether the entity's health should be updated.
+     * The challenge settings that the cached challenge zone was resolved with, or {@code null} if it must be resolved.
      *
-     * @since 1.1.1
+     * @since 2.3.0
      */
     @Unique
-    private boolean lastEnableState = ChallengeHelper.isEnabled(this.self().getWorld());
+    private @Nullable ChallengeSettings zoneSettings = null;
     /**
-     * Stores the previously used health additive value to check whether the entity's health should be updated.
+     * The packed block position that the cached challenge zone was resolved at.
      *
-     * @since 1.1.1
+     * @since 2.3.0
      */
     @Unique
-    private double lastHealthAdditive = ChallengeHelper.getHealthAdditive(this.self().getWorld());
+    private long zoneBlockPos = 0L;
     /**
-     * Stores the previously used chunk step value to check whether the entity's health should be updated.
+     * The cached challenge zone, or {@code null} if the entity is using the default radial scaling.
      *
-     * @since 1.1.1
+     * @since 2.3.0
      */
     @Unique
-    private double lastChunkStep = ChallengeHelper.getChunkStep(this.self().getWorld());
+    private @Nullable ChallengeZone challengeZone = null;
+    /**
+     * The challenge settings that the cached health additive was computed with, or {@code null} if it must be
+     * recomputed.
+     * <p>
+     * Settings are compared by identity, so this is invalidated whenever the entity's world or its settings change.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable ChallengeSettings healthAdditiveSettings = null;
+    /**
+     * The packed position of the chunk that the cached health additive was computed within.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private long healthAdditiveChunk = 0L;
+    /**
+     * The challenge zone that the cached health additive was computed within, or {@code null} if it was computed using
+     * the default radial scaling.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable ChallengeZone healthAdditiveZone = null;
+    /**
+     * The cached scaled health additive.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private float healthAdditive = 0F;
+    /**
+     * The challenge settings that the entity's attribute modifiers were last refreshed with, or {@code null} if they
+     * must be refreshed.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable ChallengeSettings modifierSettings = null;
+    /**
+     * The chunk that the entity's attribute modifiers were last refreshed within.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private ChunkPos modifierChunk = ChunkPos.ORIGIN;
+    /**
+     * The challenge zone that the entity's attribute modifiers were last refreshed within, or {@code null} if they
+     * were refreshed using the default radial scaling.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable ChallengeZone modifierZone = null;
+    /**
+     * Whether the entity currently has challenge attribute modifiers installed.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private boolean hasModifiers = false;
 
     /**
      * Creates a new instance of this mixin.
@@ -121,6 +195,9 @@ public abstract class LivingEntityMixin extends Entity implements Attackable, As
 
     /**
      * Provides a scaled maximum health value if mob challenge scaling is enabled.
+     * <p>
+     * The scaled additive is cached, and is only recomputed when the entity enters a different chunk or challenge
+     * zone, or when its world's challenge settings change.
      *
      * @param health The original health.
      *
@@ -130,24 +207,51 @@ public abstract class LivingEntityMixin extends Entity implements Attackable, As
      */
     @ModifyReturnValue(method = "getMaxHealth", at = @At("RETURN"))
     private float scaleHealth(float health) {
-        if (!ChallengeHelper.shouldApplyScaling(this) || this.getWorld().isClient()) return health;
+        if (this.getWorld().isClient() || !ChallengeHelper.shouldApplyScaling(this)) return health;
+
+        final ChallengeSettings settings = ChallengeHelper.getSettings(this.getWorld());
+
+        // The maximum health attribute already contains the scaled additive.
+        if (settings.useAttributes()) return health;
 
-        final World world = this.getWorld();
-        final double additive = ChallengeHelper.getHealthAdditive(world);
+        final long chunk = this.getChunkPos().toLong();
+        // Zone edges and height limits may fall within a chunk, so the zone is also compared.
+        final ChallengeZone zone = this.getChallengeZone(settings);
+        final boolean moved = this.healthAdditiveChunk != chunk || this.healthAdditiveZone != zone;
 
-        if (this.lastHealthAdditive != additive) {
-            this.lastHealthAdditive = additive;
-            this.shouldResetHealth = true;
+        if (this.healthAdditiveSettings != settings || moved) {
+            this.healthAdditiveSettings = settings;
+            this.healthAdditiveChunk = chunk;
+            this.healthAdditiveZone = zone;
+            this.healthAdditive = (float) ChallengeHelper.getScaledHealthAdditive(this, settings);
         }
 
-        final int chunkStep = ChallengeHelper.getChunkStep(world);
+        return health + this.healthAdditive;
+    }
 
-        if (this.lastChunkStep != chunkStep) {
-            this.shouldResetHealth = true;
-            this.lastChunkStep = chunkStep;
+    /**
+     * Returns the challenge zone that contains the entity, if any.
+     * <p>
+     * The zone is cached, and is only resolved again when the entity enters a different block or when its world's
+     * challenge settings change.
+     *
+     * @param settings The current challenge settings.
+     *
+     * @return The entity's challenge zone, or {@code null} if the default radial scaling should be used.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable ChallengeZone getChallengeZone(ChallengeSettings settings) {
+        final long blockPos = this.getBlockPos().asLong();
+
+        if (this.zoneSettings != settings || this.zoneBlockPos != blockPos) {
+            this.zoneSettings = settings;
+            this.zoneBlockPos = blockPos;
+            this.challengeZone = ChallengeHelper.getZone(this, settings);
         }
 
-        return health + (float) ChallengeHelper.getScaledAdditive(this, additive);
+        return this.challengeZone;
     }
 
     /**
@@ -164,6 +268,8 @@ public abstract class LivingEntityMixin extends Entity implements Attackable, As
 
     /**
      * Automatically updates an entity's maximum health if necessary.
+     * <p>
+     * Health is only reset when the challenge settings version changes, so this is a single comparison for most ticks.
      *
      * @param callbackInfo The injection callback information.
      *
@@ -171,22 +277,89 @@ public abstract class LivingEntityMixin extends Entity implements Attackable, As
      */
     @Inject(method = "tick", at = @At("TAIL"))
     private void tickInject(CallbackInfo callbackInfo) {
-        if (!ChallengeHelper.shouldApplyScaling(this) || this.getWorld().isClient()) return;
+        if (this.getWorld().isClient()) return;
+
+        final ChallengeSettings settings = ChallengeHelper.getSettings(this.getWorld());
+        final boolean stale = this.lastChallengeVersion != settings.version();
 
-        final boolean enabled = ChallengeHelper.isEnabled(this.getWorld());
-        final float maxHealth = this.self().getMaxHealth();
+        // Modifiers must also be refreshed when the version changes, in case attribute scaling was just disabled.
+        if (stale || settings.useAttributes()) this.updateModifiers(settings);
 
-        if (this.lastEnableState != enabled) {
-            this.lastEnableState = enabled;
-            this.shouldResetHealth = true;
+        if (!stale) return;
+
+        this.lastChallengeVersion = settings.version();
+
+        if (ChallengeHelper.shouldApplyScaling(this)) {
+            this.setHealthData(this.self().getMaxHealth());
         }
+    }
+
+    /**
+     * Installs, refreshes, or removes the entity's challenge attribute modifiers if necessary.
+     * <p>
+     * Modifiers are only refreshed when the challenge settings change, when the entity's eligibility changes, when
+     * the entity enters a different challenge zone, or when the entity moves at least the configured number of chunks
+     * away from where they were last refreshed.
+     *
+     * @param settings The current challenge settings.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private void updateModifiers(ChallengeSettings settings) {
+        final boolean install = settings.useAttributes() && ChallengeHelper.shouldApplyScaling(this);
 
-        if (this.shouldResetHealth) {
-            this.setHealthData(maxHealth);
-            this.shouldResetHealth = false;
+        final ChallengeZone zone = install ? this.getChallengeZone(settings) : null;
+
+        if (this.modifierSettings == settings && this.hasModifiers == install) {
+            if (!install) return;
+
+            final int distance = this.getChunkPos().getChebyshevDistance(this.modifierChunk);
+
+            if (distance < settings.attributeRefreshDistance() && this.modifierZone == zone) return;
+        }
+
+        this.modifierSettings = settings;
+        this.modifierChunk = this.getChunkPos();
+        this.modifierZone = zone;
+        this.hasModifiers = install;
+
+        if (install) {
+            final double health = ChallengeHelper.getScaledHealthAdditive(this, settings);
+            final double attack = ChallengeHelper.getScaledAttackAdditive(this, settings);
+
+            this.setModifier(EntityAttributes.GENERIC_MAX_HEALTH, ChallengeHelper.HEALTH_MODIFIER_ID, health);
+            this.setModifier(EntityAttributes.GENERIC_ATTACK_DAMAGE, ChallengeHelper.ATTACK_MODIFIER_ID, attack);
+        } else {
+            this.setModifier(EntityAttributes.GENERIC_MAX_HEALTH, ChallengeHelper.HEALTH_MODIFIER_ID, 0D);
+            this.setModifier(EntityAttributes.GENERIC_ATTACK_DAMAGE, ChallengeHelper.ATTACK_MODIFIER_ID, 0D);
         }
     }
 
+    /**
+     * Replaces the challenge modifier with the given identifier on the given attribute.
+     * <p>
+     * If the value is zero, the modifier is removed instead. Entities without the given attribute are ignored.
+     *
+     * @param attribute The target attribute.
+     * @param id The modifier's identifier.
+     * @param value The modifier's value.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private void setModifier(EntityAttribute attribute, UUID id, double value) {
+        final EntityAttributeInstance instance = this.self().getAttributeInstance(attribute);
+
+        if (instance == null) return;
+
+        instance.removeModifier(id);
+
+        if (value == 0D) return;
+
+        instance.addPersistentModifier(new EntityAttributeModifier(id, "Challenge scaling", value, Operation.ADDITION));
+    }
+
     /**
      * Convenience method to set the entity's current health to the given value without calling
      * {@link LivingEntity#getMaxHealth()}.
@@ -210,6 +383,11 @@ public abstract class LivingEntityMixin extends Entity implements Attackable, As
      */
     @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
     private void readCustomDataFromNbtInject(NbtCompound nbt, CallbackInfo callbackInfo) {
+        // The entity may have been moved while loading, so the cached additive can no longer be trusted.
+        this.healthAdditiveSettings = null;
+        // Any loaded modifiers may have been computed using outdated settings.
+        this.modifierSettings = null;
+
         if (nbt.contains(ChallengeHelper.IGNORE_KEY, NbtElement.BYTE_TYPE)) {
             this.ignoreChallengeScaling = nbt.getBoolean(ChallengeHelper.IGNORE_KEY);
         }
@@ -59,7 +59,7 @@ public abstract class LlamaSpitEntityMixin extends ProjectileEntity {
     ), index = 1
     )
     private float onEntityHitArgsInject(float damage) {
-        return ChallengeHelper.getScaledAttack(this, damage);
+        return ChallengeHelper.getScaledProjectileAttack(this, damage);
     }
 
 }
@@ -60,7 +60,7 @@ public abstract class MobEntityMixin extends LivingEntity implements Targeter {
     ), index = 1
     )
     private float tryAttackArgsInject(float damage) {
-        return ChallengeHelper.getScaledAttack(this, damage);
+        return ChallengeHelper.getScaledAttributeAttack(this, damage);
     }
 
 }
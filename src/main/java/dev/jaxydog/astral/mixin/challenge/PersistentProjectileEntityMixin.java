@@ -59,7 +59,7 @@ public abstract class PersistentProjectileEntityMixin extends ProjectileEntity {
     ), index = 1
     )
     private float onEntityHitArgsInject(float damage) {
-        return ChallengeHelper.getScaledAttack(this.getOwner(), damage);
+        return ChallengeHelper.getScaledProjectileAttack(this, damage);
     }
 
 }
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin.challenge;
+
+import dev.jaxydog.astral.utility.ChallengeHelper;
+import dev.jaxydog.astral.utility.injected.AstralProjectileEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.projectile.ProjectileEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Captures the owner's challenge scaling when a projectile is launched.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(ProjectileEntity.class)
+public abstract class ProjectileEntityMixin extends Entity implements AstralProjectileEntity {
+
+    /**
+     * The scaled attack additive captured from the projectile's owner.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private float challengeAttack = 0F;
+    /**
+     * Whether the attack additive has been captured.
+     * <p>
+     * This is only false for projectiles that have no owner or that were saved before additives were captured.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private boolean hasChallengeAttack = false;
+
+    /**
+     * Creates a new instance of this mixin.
+     *
+     * @param type The entity type.
+     * @param world The current world.
+     *
+     * @since 2.3.0
+     */
+    public ProjectileEntityMixin(EntityType<?> type, World world) {
+        super(type, world);
+    }
+
+    /**
+     * Returns the projectile's owner.
+     *
+     * @return The owner, or {@code null} if it has no owner or it is not loaded.
+     *
+     * @since 2.3.0
+     */
+    @Shadow
+    public abstract @Nullable Entity getOwner();
+
+    @Override
+    public float astral$getChallengeAttack() {
+        if (!this.hasChallengeAttack) {
+            // Falls back to the current owner, for projectiles that were loaded without a captured additive.
+            this.challengeAttack = ChallengeHelper.getProjectileAttackAdditive(this.getOwner());
+            this.hasChallengeAttack = true;
+        }
+
+        return this.challengeAttack;
+    }
+
+    /**
+     * Captures the new owner's scaled attack additive.
+     *
+     * @param entity The new owner.
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "setOwner", at = @At("TAIL"))
+    private void setOwnerInject(@Nullable Entity entity, CallbackInfo callbackInfo) {
+        this.challengeAttack = ChallengeHelper.getProjectileAttackAdditive(entity);
+        this.hasChallengeAttack = entity != null;
+    }
+
+    /**
+     * Deserializes the captured attack additive.
+     *
+     * @param nbt The NBT compound.
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
+    private void readCustomDataFromNbtInject(NbtCompound nbt, CallbackInfo callbackInfo) {
+        this.hasChallengeAttack = nbt.contains(ChallengeHelper.PROJECTILE_ATTACK_KEY, NbtElement.FLOAT_TYPE);
+        this.challengeAttack = this.hasChallengeAttack ? nbt.getFloat(ChallengeHelper.PROJECTILE_ATTACK_KEY) : 0F;
+    }
+
+    /**
+     * Serializes the captured attack additive.
+     *
+     * @param nbt The NBT compound.
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
+    private void writeCustomDataToNbtInject(NbtCompound nbt, CallbackInfo callbackInfo) {
+        if (this.hasChallengeAttack) {
+            nbt.putFloat(ChallengeHelper.PROJECTILE_ATTACK_KEY, this.challengeAttack);
+        }
+    }
+
+}
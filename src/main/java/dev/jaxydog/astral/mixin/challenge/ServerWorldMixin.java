@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin.challenge;
+
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Keeps every server world's challenge settings in sync with the shared spawn position.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldMixin {
+
+    /**
+     * Rebuilds the challenge settings of every world after the spawn position changes.
+     * <p>
+     * All worlds read the same spawn properties, so the settings of other dimensions must be rebuilt as well.
+     *
+     * @param pos The new spawn position.
+     * @param angle The new spawn angle.
+     * @param callbackInfo The injection callback information.
+     *
+     * @since 2.3.0
+     */
+    @Inject(method = "setSpawnPos", at = @At("TAIL"))
+    private void setSpawnPosInject(BlockPos pos, float angle, CallbackInfo callbackInfo) {
+        ChallengeSettings.rebuild(((ServerWorld) (Object) this).getServer());
+    }
+
+}
@@ -56,7 +56,7 @@ public abstract class SlimeEntityMixin extends MobEntity implements Monster {
      */
     @ModifyReturnValue(method = "getDamageAmount", at = @At("RETURN"))
     private float getDamageAmountMixin(float damage) {
-        return ChallengeHelper.getScaledAttack(this, damage);
+        return ChallengeHelper.getScaledAttributeAttack(this, damage);
     }
 
 }
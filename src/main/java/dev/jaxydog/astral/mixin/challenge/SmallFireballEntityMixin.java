@@ -71,7 +71,7 @@ public abstract class SmallFireballEntityMixin extends AbstractFireballEntity {
     ), index = 1
     )
     private float onEntityHitArgsInject(float damage) {
-        return ChallengeHelper.getScaledAttack(this, damage);
+        return ChallengeHelper.getScaledProjectileAttack(this, damage);
     }
 
 }
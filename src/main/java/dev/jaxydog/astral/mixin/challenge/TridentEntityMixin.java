@@ -63,7 +63,7 @@ public abstract class TridentEntityMixin extends PersistentProjectileEntity {
     ), index = 1
     )
     private float onEntityHitArgsInject(float damage) {
-        return ChallengeHelper.getScaledAttack(this, damage);
+        return ChallengeHelper.getScaledProjectileAttack(this, damage);
     }
 
 }
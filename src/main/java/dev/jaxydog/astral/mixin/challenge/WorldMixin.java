@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.mixin.challenge;
+
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+import dev.jaxydog.astral.utility.injected.AstralWorld;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Implements the {@link AstralWorld} interface.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+@Mixin(World.class)
+public abstract class WorldMixin implements AstralWorld {
+
+    /**
+     * This world's cached challenge settings, or {@code null} if they have not been built yet.
+     *
+     * @since 2.3.0
+     */
+    @Unique
+    private @Nullable ChallengeSettings challengeSettings = null;
+
+    @Override
+    public ChallengeSettings astral$getChallengeSettings() {
+        if (this.challengeSettings == null) this.astral$refreshChallengeSettings();
+
+        return this.challengeSettings;
+    }
+
+    @Override
+    public void astral$refreshChallengeSettings() {
+        this.challengeSettings = ChallengeSettings.create((World) (Object) this);
+    }
+
+}
@@ -14,18 +14,47 @@
 
 package dev.jaxydog.astral.utility;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
 import dev.jaxydog.astral.Astral;
 import dev.jaxydog.astral.content.AstralGamerules;
+import dev.jaxydog.astral.utility.injected.AstralEntityType;
 import dev.jaxydog.astral.utility.injected.AstralLivingEntity;
+import dev.jaxydog.astral.utility.injected.AstralProjectileEntity;
+import dev.jaxydog.astral.utility.injected.AstralWorld;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.passive.TameableEntity;
+import net.minecraft.entity.projectile.ProjectileEntity;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Provides commonly used fields and methods for mob challenge scaling.
@@ -61,11 +90,33 @@ public interface ChallengeHelper {
      * @since 1.1.0
      */
     String FORCE_KEY = "ForceChallengeScaling";
+    /**
+     * An NBT key that stores the scaled attack additive captured by a projectile when its owner was set.
+     *
+     * @since 2.3.0
+     */
+    String PROJECTILE_ATTACK_KEY = "ChallengeAttackAdditive";
+
+    /**
+     * The identifier of the maximum health modifier used when scaling through attributes.
+     *
+     * @since 2.3.0
+     */
+    UUID HEALTH_MODIFIER_ID = UUID.fromString("5b8e3f0c-7d1a-4c52-9a0e-2f6b1d4c8e71");
+    /**
+     * The identifier of the attack damage modifier used when scaling through attributes.
+     *
+     * @since 2.3.0
+     */
+    UUID ATTACK_MODIFIER_ID = UUID.fromString("c3a91e54-0b6f-4d8a-8e27-9f1d5a6b3c02");
 
     /**
      * A tag that determines which entities are scaled.
      * <p>
      * If an entity is not present within this tag, it will never be scaled (unless set through NBT).
+     * <p>
+     * Membership is cached on each entity type whenever tags are loaded, see
+     * {@link AstralEntityType#astral$isChallengeScaled()}.
      *
      * @since 1.1.0
      */
@@ -88,14 +139,28 @@ public interface ChallengeHelper {
             && (((AstralLivingEntity) living).astral$forcesChallengeScaling()
             // Check if scaling is enabled.
             || (isEnabled(living.getWorld())
-            // Check if the entity is also in the scaling tag.
-            && living.getType().isIn(SCALED_ENTITIES)
+            // Check if the entity's type is in the scaling tag.
+            && ((AstralEntityType) living.getType()).astral$isChallengeScaled()
             // Check that the entity doesn't ignore scaling.
             && !((AstralLivingEntity) living).astral$ignoresChallengeScaling()
             // Check that the entity isn't tamed.
             && (!(living instanceof final TameableEntity tamable) || !tamable.isTamed())));
     }
 
+    /**
+     * Returns the given world's current challenge settings.
+     *
+     * @param world The current world.
+     *
+     * @return The world's challenge settings.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    static ChallengeSettings getSettings(World world) {
+        return ((AstralWorld) world).astral$getChallengeSettings();
+    }
+
     /**
      * Returns whether challenge scaling is enabled in the current world.
      *
@@ -106,7 +171,7 @@ public interface ChallengeHelper {
      * @since 1.1.0
      */
     static boolean isEnabled(World world) {
-        return world.getGameRules().getBoolean(AstralGamerules.CHALLENGE_ENABLED);
+        return getSettings(world).enabled();
     }
 
     /**
@@ -119,7 +184,7 @@ public interface ChallengeHelper {
      * @since 2.0.0
      */
     static boolean useWorldSpawn(World world) {
-        return world.getGameRules().getBoolean(AstralGamerules.CHALLENGE_USE_WORLDSPAWN);
+        return getSettings(world).useWorldSpawn();
     }
 
     /**
@@ -134,7 +199,7 @@ public interface ChallengeHelper {
      * @since 1.1.0
      */
     static double getAttackAdditive(World world) {
-        return world.getGameRules().get(AstralGamerules.CHALLENGE_ATTACK_ADDITIVE).get();
+        return getSettings(world).attackAdditive();
     }
 
     /**
@@ -149,7 +214,7 @@ public interface ChallengeHelper {
      * @since 1.1.0
      */
     static double getHealthAdditive(World world) {
-        return world.getGameRules().get(AstralGamerules.CHALLENGE_HEALTH_ADDITIVE).get();
+        return getSettings(world).healthAdditive();
     }
 
     /**
@@ -165,17 +230,130 @@ public interface ChallengeHelper {
     static double getScaledAdditive(Entity entity, double additive) {
         if (entity == null || entity.getWorld() == null) return additive;
 
-        final int step = getChunkStep(entity.getWorld());
+        return getScaledAdditive(entity, getSettings(entity.getWorld()), additive);
+    }
 
-        if (step == 0) return 0; // Prevent divisions by zero.
+    /**
+     * Returns a statistic additive that has been scaled using the given challenge settings.
+     *
+     * @param entity The target entity.
+     * @param settings The challenge settings of the entity's world.
+     * @param additive The statistical additive.
+     *
+     * @return The scaled additive.
+     *
+     * @since 2.3.0
+     */
+    static double getScaledAdditive(Entity entity, ChallengeSettings settings, double additive) {
+        return getScaledAdditive(settings, entity.getBlockX(), entity.getBlockZ(), additive);
+    }
 
-        final double distance = getSpawnDistance(entity);
+    /**
+     * Returns a statistic additive that has been scaled for the given block position using the given challenge
+     * settings.
+     *
+     * @param settings The challenge settings.
+     * @param blockX The block X position.
+     * @param blockZ The block Z position.
+     * @param additive The statistical additive.
+     *
+     * @return The scaled additive.
+     *
+     * @since 2.3.0
+     */
+    static double getScaledAdditive(ChallengeSettings settings, int blockX, int blockZ, double additive) {
+        final double distance = getSpawnDistance(settings, blockX, blockZ);
         // Scales by chunks, not blocks.
-        final double modifier = Math.max(0D, additive) * ((distance / 16D) / step);
-        final boolean overworld = entity.getWorld().getRegistryKey().equals(World.OVERWORLD);
+        final double modifier = Math.max(0D, additive) * ((distance / 16D) / settings.chunkStep());
 
         // Halve the scaling rate outside the overworld.
-        return overworld ? modifier : modifier / 2D;
+        return settings.overworld() ? modifier : modifier / 2D;
+    }
+
+    /**
+     * Returns the challenge zone that contains the given entity, if any.
+     *
+     * @param entity The target entity.
+     * @param settings The challenge settings of the entity's world.
+     *
+     * @return The entity's challenge zone, or {@code null} if the default radial scaling should be used.
+     *
+     * @since 2.3.0
+     */
+    static @Nullable ChallengeZone getZone(Entity entity, ChallengeSettings settings) {
+        return settings.zones().find(entity.getX(), entity.getY(), entity.getZ());
+    }
+
+    /**
+     * Returns the given entity's scaled health additive, using its challenge zone if it is within one.
+     *
+     * @param entity The target entity.
+     * @param settings The challenge settings of the entity's world.
+     *
+     * @return The scaled health additive.
+     *
+     * @since 2.3.0
+     */
+    static double getScaledHealthAdditive(Entity entity, ChallengeSettings settings) {
+        return getScaledHealthAdditive(settings, entity.getX(), entity.getY(), entity.getZ());
+    }
+
+    /**
+     * Returns the scaled health additive at the given position, using its challenge zone if it is within one.
+     *
+     * @param settings The challenge settings.
+     * @param x The X position.
+     * @param y The Y position.
+     * @param z The Z position.
+     *
+     * @return The scaled health additive.
+     *
+     * @since 2.3.0
+     */
+    static double getScaledHealthAdditive(ChallengeSettings settings, double x, double y, double z) {
+        final ChallengeZone zone = settings.zones().find(x, y, z);
+
+        if (zone == null) {
+            return getScaledAdditive(settings, MathHelper.floor(x), MathHelper.floor(z), settings.healthAdditive());
+        }
+
+        return zone.getScaledAdditive(settings, x, z, settings.healthAdditive(), zone.healthMultiplier());
+    }
+
+    /**
+     * Returns the given entity's scaled attack additive, using its challenge zone if it is within one.
+     *
+     * @param entity The target entity.
+     * @param settings The challenge settings of the entity's world.
+     *
+     * @return The scaled attack additive.
+     *
+     * @since 2.3.0
+     */
+    static double getScaledAttackAdditive(Entity entity, ChallengeSettings settings) {
+        return getScaledAttackAdditive(settings, entity.getX(), entity.getY(), entity.getZ());
+    }
+
+    /**
+     * Returns the scaled attack additive at the given position, using its challenge zone if it is within one.
+     *
+     * @param settings The challenge settings.
+     * @param x The X position.
+     * @param y The Y position.
+     * @param z The Z position.
+     *
+     * @return The scaled attack additive.
+     *
+     * @since 2.3.0
+     */
+    static double getScaledAttackAdditive(ChallengeSettings settings, double x, double y, double z) {
+        final ChallengeZone zone = settings.zones().find(x, y, z);
+
+        if (zone == null) {
+            return getScaledAdditive(settings, MathHelper.floor(x), MathHelper.floor(z), settings.attackAdditive());
+        }
+
+        return zone.getScaledAdditive(settings, x, z, settings.attackAdditive(), zone.attackMultiplier());
     }
 
     /**
@@ -190,7 +368,7 @@ public interface ChallengeHelper {
      * @since 1.1.0
      */
     static int getChunkStep(World world) {
-        return Math.max(world.getGameRules().getInt(AstralGamerules.CHALLENGE_CHUNK_STEP), 1);
+        return getSettings(world).chunkStep();
     }
 
     /**
@@ -209,11 +387,43 @@ public interface ChallengeHelper {
     static double getSpawnDistance(Entity entity) {
         if (entity == null || entity.getWorld() == null) return 0D;
 
-        final World world = entity.getWorld();
-        final BlockPos center = useWorldSpawn(world) ? world.getSpawnPos() : ORIGIN;
-        final BlockPos adjusted = center.withY(entity.getBlockY());
+        return getSpawnDistance(entity, getSettings(entity.getWorld()));
+    }
+
+    /**
+     * Returns the given entity's distance from the origin configured within the given challenge settings.
+     * <p>
+     * This method ignores height differences, only considering horizontal distance.
+     *
+     * @param entity The target entity.
+     * @param settings The challenge settings of the entity's world.
+     *
+     * @return The entity's distance from the origin.
+     *
+     * @since 2.3.0
+     */
+    static double getSpawnDistance(Entity entity, ChallengeSettings settings) {
+        return getSpawnDistance(settings, entity.getBlockX(), entity.getBlockZ());
+    }
+
+    /**
+     * Returns the given block position's distance from the origin configured within the given challenge settings.
+     * <p>
+     * This method ignores height differences, only considering horizontal distance.
+     *
+     * @param settings The challenge settings.
+     * @param blockX The block X position.
+     * @param blockZ The block Z position.
+     *
+     * @return The position's distance from the origin.
+     *
+     * @since 2.3.0
+     */
+    static double getSpawnDistance(ChallengeSettings settings, int blockX, int blockZ) {
+        final double x = blockX - settings.origin().getX();
+        final double z = blockZ - settings.origin().getZ();
 
-        return Math.sqrt(entity.getBlockPos().getSquaredDistance(adjusted));
+        return Math.sqrt((x * x) + (z * z));
     }
 
     /**
@@ -229,9 +439,49 @@ public interface ChallengeHelper {
     static float getScaledAttack(Entity entity, float attack) {
         if (!shouldApplyScaling(entity)) return attack;
 
-        final double additive = getAttackAdditive(entity.getWorld());
+        final ChallengeSettings settings = getSettings(entity.getWorld());
 
-        return attack + (float) getScaledAdditive(entity, additive);
+        return getScaledAttack(settings, entity.getX(), entity.getY(), entity.getZ(), attack);
+    }
+
+    /**
+     * Returns the scaled attack damage at the given position.
+     *
+     * @param settings The challenge settings.
+     * @param x The X position.
+     * @param y The Y position.
+     * @param z The Z position.
+     * @param attack The original attack damage.
+     *
+     * @return The scaled attack damage.
+     *
+     * @since 2.3.0
+     */
+    static float getScaledAttack(ChallengeSettings settings, double x, double y, double z, float attack) {
+        return attack + (float) getScaledAttackAdditive(settings, x, y, z);
+    }
+
+    /**
+     * Returns the given entity's scaled attack damage for an attack derived from its attack damage attribute.
+     * <p>
+     * If scaling is applied through attribute modifiers and the entity has an attack damage attribute, the attribute
+     * already includes the scaled additive, so the original damage is returned unchanged.
+     *
+     * @param entity The source entity.
+     * @param attack The original attack damage.
+     *
+     * @return The scaled attack damage.
+     *
+     * @since 2.3.0
+     */
+    static float getScaledAttributeAttack(Entity entity, float attack) {
+        if (entity instanceof final LivingEntity living
+            && living.getAttributeInstance(EntityAttributes.GENERIC_ATTACK_DAMAGE) != null
+            && getSettings(living.getWorld()).useAttributes()) {
+            return attack;
+        }
+
+        return getScaledAttack(entity, attack);
     }
 
     /**
@@ -248,10 +498,998 @@ public interface ChallengeHelper {
     static float getScaledExplosion(Entity entity, float max, float power) {
         if (!shouldApplyScaling(entity)) return power;
 
-        final double additive = getAttackAdditive(entity.getWorld());
-        final double scaled = getScaledAdditive(entity, additive);
+        final ChallengeSettings settings = getSettings(entity.getWorld());
+
+        return getScaledExplosion(settings, entity.getX(), entity.getY(), entity.getZ(), max, power);
+    }
+
+    /**
+     * Returns the scaled explosion power at the given position.
+     *
+     * @param settings The challenge settings.
+     * @param x The X position.
+     * @param y The Y position.
+     * @param z The Z position.
+     * @param max The maximum allowed power.
+     * @param power The original power.
+     *
+     * @return The scaled power.
+     *
+     * @since 2.3.0
+     */
+    static float getScaledExplosion(ChallengeSettings settings, double x, double y, double z, float max, float power) {
+        final double scaled = getScaledAttackAdditive(settings, x, y, z);
 
         return Math.min(power + (float) (scaled / 10D), max);
     }
 
+    /**
+     * Returns the scaled attack additive that a projectile launched by the given entity should capture.
+     *
+     * @param owner The projectile's owner.
+     *
+     * @return The scaled attack additive, or zero if the owner is not scaled.
+     *
+     * @since 2.3.0
+     */
+    static float getProjectileAttackAdditive(@Nullable Entity owner) {
+        if (owner == null || owner.getWorld().isClient() || !shouldApplyScaling(owner)) return 0F;
+
+        return (float) getScaledAttackAdditive(owner, getSettings(owner.getWorld()));
+    }
+
+    /**
+     * Returns the given projectile's scaled attack damage, using the additive captured when it was launched.
+     *
+     * @param projectile The projectile.
+     * @param attack The original attack damage.
+     *
+     * @return The scaled attack damage.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    static float getScaledProjectileAttack(ProjectileEntity projectile, float attack) {
+        return attack + ((AstralProjectileEntity) projectile).astral$getChallengeAttack();
+    }
+
+    /**
+     * Returns the given projectile's scaled explosion power, using the additive captured when it was launched.
+     *
+     * @param projectile The projectile.
+     * @param max The maximum allowed power.
+     * @param power The original power.
+     *
+     * @return The scaled power.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    static float getScaledProjectileExplosion(ProjectileEntity projectile, float max, float power) {
+        final float additive = ((AstralProjectileEntity) projectile).astral$getChallengeAttack();
+
+        if (additive == 0F) return power;
+
+        return Math.min(power + (additive / 10F), max);
+    }
+
+    /**
+     * An immutable snapshot of a world's challenge configuration.
+     * <p>
+     * Snapshots are stored per-world, and are only rebuilt when a challenge gamerule is changed, when the world's spawn
+     * position is moved, or when challenge zones are reloaded, meaning that scaling calculations never need to query
+     * the world's gamerules.
+     *
+     * @param version The settings version, which is incremented whenever a challenge gamerule is changed.
+     * @param enabled Whether challenge scaling is enabled.
+     * @param chunkStep The chunk step size, which is always at least one.
+     * @param attackAdditive The attack additive.
+     * @param healthAdditive The health additive.
+     * @param useWorldSpawn Whether the world's spawn position is used as the origin.
+     * @param origin The position that distances are measured from.
+     * @param overworld Whether the world is the overworld.
+     * @param useAttributes Whether scaling is applied through attribute modifiers.
+     * @param attributeRefreshDistance The number of chunks an entity must move before its modifiers are refreshed.
+     * @param zones The challenge zones within the world.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record ChallengeSettings(
+        int version,
+        boolean enabled,
+        int chunkStep,
+        double attackAdditive,
+        double healthAdditive,
+        boolean useWorldSpawn,
+        BlockPos origin,
+        boolean overworld,
+        boolean useAttributes,
+        int attributeRefreshDistance,
+        ZoneIndex.Layer zones
+    ) {
+
+        /**
+         * The current settings version.
+         *
+         * @since 2.3.0
+         */
+        private static final AtomicInteger VERSION = new AtomicInteger();
+
+        /**
+         * Creates a new settings snapshot from the given world's gamerules and spawn position.
+         *
+         * @param world The world.
+         *
+         * @return A new settings snapshot.
+         *
+         * @since 2.3.0
+         */
+        public static ChallengeSettings create(World world) {
+            final GameRules rules = world.getGameRules();
+            final boolean useWorldSpawn = rules.getBoolean(AstralGamerules.CHALLENGE_USE_WORLDSPAWN);
+
+            return new ChallengeSettings(
+                VERSION.get(),
+                rules.getBoolean(AstralGamerules.CHALLENGE_ENABLED),
+                Math.max(rules.getInt(AstralGamerules.CHALLENGE_CHUNK_STEP), 1),
+                rules.get(AstralGamerules.CHALLENGE_ATTACK_ADDITIVE).get(),
+                rules.get(AstralGamerules.CHALLENGE_HEALTH_ADDITIVE).get(),
+                useWorldSpawn,
+                useWorldSpawn ? world.getSpawnPos().toImmutable() : ORIGIN,
+                world.getRegistryKey().equals(World.OVERWORLD),
+                rules.getBoolean(AstralGamerules.CHALLENGE_USE_ATTRIBUTES),
+                Math.max(rules.getInt(AstralGamerules.CHALLENGE_ATTRIBUTE_REFRESH_DISTANCE), 1),
+                ZoneIndex.get().getLayer(world.getRegistryKey())
+            );
+        }
+
+        /**
+         * Increments the settings version and rebuilds the challenge settings of every world on the given server.
+         * <p>
+         * This should be called whenever a challenge gamerule is changed.
+         *
+         * @param server The server instance.
+         *
+         * @since 2.3.0
+         */
+        public static void refresh(MinecraftServer server) {
+            VERSION.incrementAndGet();
+
+            rebuild(server);
+        }
+
+        /**
+         * Rebuilds the challenge settings of every world on the given server without incrementing the settings version.
+         * <p>
+         * This should be called whenever the settings' inputs change in a way that should not reset entity health.
+         *
+         * @param server The server instance.
+         *
+         * @since 2.3.0
+         */
+        @SuppressWarnings("RedundantCast")
+        public static void rebuild(MinecraftServer server) {
+            for (final ServerWorld world : server.getWorlds()) {
+                ((AstralWorld) world).astral$refreshChallengeSettings();
+            }
+        }
+
+    }
+
+    /**
+     * A datapack-defined region with its own challenge scaling.
+     * <p>
+     * Zones are matched against an entity's position, and if multiple zones contain the entity, the zone with the
+     * highest priority is used.
+     *
+     * @param id The zone's identifier.
+     * @param dimension The dimension that contains the zone.
+     * @param priority The zone's priority.
+     * @param shape The zone's horizontal shape.
+     * @param minY The zone's minimum Y position, inclusive.
+     * @param maxY The zone's maximum Y position, inclusive.
+     * @param healthMultiplier The multiplier applied to the configured health additive.
+     * @param attackMultiplier The multiplier applied to the configured attack additive.
+     * @param curve The curve that determines how many scaling steps are applied at a position.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record ChallengeZone(
+        Identifier id,
+        RegistryKey<World> dimension,
+        int priority,
+        ZoneShape shape,
+        int minY,
+        int maxY,
+        double healthMultiplier,
+        double attackMultiplier,
+        ZoneCurve curve
+    ) {
+
+        /**
+         * Orders zones by descending priority, then by identifier.
+         *
+         * @since 2.3.0
+         */
+        public static final Comparator<ChallengeZone> COMPARATOR = Comparator.comparingInt(ChallengeZone::priority)
+            .reversed()
+            .thenComparing(ChallengeZone::id);
+
+        /**
+         * Parses a JSON object and creates a new {@link ChallengeZone} from the resolved data.
+         *
+         * @param id The zone's identifier.
+         * @param object The JSON object.
+         *
+         * @return A new challenge zone.
+         *
+         * @throws JsonSyntaxException If a field is invalid or missing from the given object.
+         * @since 2.3.0
+         */
+        public static ChallengeZone parse(Identifier id, JsonObject object) throws JsonSyntaxException {
+            final String dimensionString = JsonHelper.getString(object, "dimension");
+            final Identifier dimensionId = Identifier.tryParse(dimensionString);
+
+            if (dimensionId == null) {
+                throw new JsonSyntaxException("Invalid identifier '%s'".formatted(dimensionString));
+            }
+
+            final int priority = JsonHelper.getInt(object, "priority", 0);
+            final ZoneShape shape = ZoneShape.parse(JsonHelper.getObject(object, "shape"));
+            final int minY = JsonHelper.getInt(object, "min_y", Integer.MIN_VALUE);
+            final int maxY = JsonHelper.getInt(object, "max_y", Integer.MAX_VALUE);
+
+            if (minY > maxY) throw new JsonSyntaxException("Expected 'min_y' to be at most 'max_y'");
+
+            final double healthMultiplier = JsonHelper.getDouble(object, "health_multiplier", 1D);
+            final double attackMultiplier = JsonHelper.getDouble(object, "attack_multiplier", 1D);
+            final ZoneCurve curve;
+
+            if (object.has("curve")) {
+                curve = ZoneCurve.parse(shape, JsonHelper.getObject(object, "curve"));
+            } else {
+                curve = ZoneCurve.radial(shape);
+            }
+
+            return new ChallengeZone(id,
+                RegistryKey.of(RegistryKeys.WORLD, dimensionId),
+                priority,
+                shape,
+                minY,
+                maxY,
+                healthMultiplier,
+                attackMultiplier,
+                curve
+            );
+        }
+
+        /**
+         * Returns whether this zone contains the given position.
+         *
+         * @param x The X position.
+         * @param y The Y position.
+         * @param z The Z position.
+         *
+         * @return Whether the position is within this zone.
+         *
+         * @since 2.3.0
+         */
+        public boolean contains(double x, double y, double z) {
+            return y >= this.minY() && y <= this.maxY() && this.shape().contains(x, z);
+        }
+
+        /**
+         * Returns a statistic additive that has been scaled for the given position using this zone's curve.
+         *
+         * @param settings The challenge settings of the zone's world.
+         * @param x The X position.
+         * @param z The Z position.
+         * @param additive The statistical additive.
+         * @param multiplier The zone's multiplier for the given additive.
+         *
+         * @return The scaled additive.
+         *
+         * @since 2.3.0
+         */
+        public double getScaledAdditive(
+            ChallengeSettings settings, double x, double z, double additive, double multiplier
+        ) {
+            return Math.max(0D, additive * multiplier) * this.curve().getSteps(x, z, settings);
+        }
+
+    }
+
+    /**
+     * The horizontal shape of a challenge zone.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    sealed interface ZoneShape permits BoxShape, CylinderShape, PolygonShape {
+
+        /**
+         * Parses a JSON object and creates a new {@link ZoneShape} from the resolved data.
+         *
+         * @param object The JSON object.
+         *
+         * @return A new zone shape.
+         *
+         * @throws JsonSyntaxException If a field is invalid or missing from the given object.
+         * @since 2.3.0
+         */
+        static ZoneShape parse(JsonObject object) throws JsonSyntaxException {
+            final String type = JsonHelper.getString(object, "type");
+
+            return switch (type) {
+                case "box" -> BoxShape.parse(object);
+                case "cylinder" -> CylinderShape.parse(object);
+                case "polygon" -> PolygonShape.parse(object);
+                default -> throw new JsonSyntaxException("Unknown zone shape '%s'".formatted(type));
+            };
+        }
+
+        /**
+         * Parses a two-element JSON array into a horizontal point.
+         *
+         * @param element The JSON element.
+         * @param name The name of the field, used for errors.
+         *
+         * @return A two-element array containing the X and Z positions.
+         *
+         * @throws JsonSyntaxException If the element is not a two-element array of numbers.
+         * @since 2.3.0
+         */
+        static double[] parsePoint(JsonElement element, String name) throws JsonSyntaxException {
+            final JsonArray array = JsonHelper.asArray(element, name);
+
+            if (array.size() != 2) {
+                throw new JsonSyntaxException("Expected '%s' to contain two numbers".formatted(name));
+            }
+
+            return new double[] { JsonHelper.asDouble(array.get(0), name), JsonHelper.asDouble(array.get(1), name) };
+        }
+
+        /**
+         * Returns whether this shape contains the given horizontal position.
+         *
+         * @param x The X position.
+         * @param z The Z position.
+         *
+         * @return Whether the position is within this shape.
+         *
+         * @since 2.3.0
+         */
+        boolean contains(double x, double z);
+
+        /**
+         * Returns the minimum X position of this shape's bounding box.
+         *
+         * @return The minimum X position.
+         *
+         * @since 2.3.0
+         */
+        double minX();
+
+        /**
+         * Returns the minimum Z position of this shape's bounding box.
+         *
+         * @return The minimum Z position.
+         *
+         * @since 2.3.0
+         */
+        double minZ();
+
+        /**
+         * Returns the maximum X position of this shape's bounding box.
+         *
+         * @return The maximum X position.
+         *
+         * @since 2.3.0
+         */
+        double maxX();
+
+        /**
+         * Returns the maximum Z position of this shape's bounding box.
+         *
+         * @return The maximum Z position.
+         *
+         * @since 2.3.0
+         */
+        double maxZ();
+
+        /**
+         * Returns the X position of this shape's center.
+         *
+         * @return The center X position.
+         *
+         * @since 2.3.0
+         */
+        default double centerX() {
+            return (this.minX() + this.maxX()) / 2D;
+        }
+
+        /**
+         * Returns the Z position of this shape's center.
+         *
+         * @return The center Z position.
+         *
+         * @since 2.3.0
+         */
+        default double centerZ() {
+            return (this.minZ() + this.maxZ()) / 2D;
+        }
+
+    }
+
+    /**
+     * An axis-aligned rectangular zone shape.
+     *
+     * @param minX The minimum X position.
+     * @param minZ The minimum Z position.
+     * @param maxX The maximum X position.
+     * @param maxZ The maximum Z position.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record BoxShape(double minX, double minZ, double maxX, double maxZ) implements ZoneShape {
+
+        /**
+         * Parses a JSON object and creates a new {@link BoxShape} from the resolved data.
+         *
+         * @param object The JSON object.
+         *
+         * @return A new box shape.
+         *
+         * @throws JsonSyntaxException If a field is invalid or missing from the given object.
+         * @since 2.3.0
+         */
+        public static BoxShape parse(JsonObject object) throws JsonSyntaxException {
+            final double[] from = ZoneShape.parsePoint(JsonHelper.getElement(object, "from"), "from");
+            final double[] to = ZoneShape.parsePoint(JsonHelper.getElement(object, "to"), "to");
+
+            return new BoxShape(Math.min(from[0], to[0]),
+                Math.min(from[1], to[1]),
+                Math.max(from[0], to[0]),
+                Math.max(from[1], to[1])
+            );
+        }
+
+        @Override
+        public boolean contains(double x, double z) {
+            return x >= this.minX() && x <= this.maxX() && z >= this.minZ() && z <= this.maxZ();
+        }
+
+    }
+
+    /**
+     * A circular zone shape.
+     *
+     * @param centerX The center X position.
+     * @param centerZ The center Z position.
+     * @param radius The circle's radius.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record CylinderShape(double centerX, double centerZ, double radius) implements ZoneShape {
+
+        /**
+         * Parses a JSON object and creates a new {@link CylinderShape} from the resolved data.
+         *
+         * @param object The JSON object.
+         *
+         * @return A new cylinder shape.
+         *
+         * @throws JsonSyntaxException If a field is invalid or missing from the given object.
+         * @since 2.3.0
+         */
+        public static CylinderShape parse(JsonObject object) throws JsonSyntaxException {
+            final double[] center = ZoneShape.parsePoint(JsonHelper.getElement(object, "center"), "center");
+            final double radius = JsonHelper.getDouble(object, "radius");
+
+            if (radius < 0D) throw new JsonSyntaxException("Expected a non-negative radius");
+
+            return new CylinderShape(center[0], center[1], radius);
+        }
+
+        @Override
+        public boolean contains(double x, double z) {
+            final double offsetX = x - this.centerX();
+            final double offsetZ = z - this.centerZ();
+
+            return (offsetX * offsetX) + (offsetZ * offsetZ) <= this.radius() * this.radius();
+        }
+
+        @Override
+        public double minX() {
+            return this.centerX() - this.radius();
+        }
+
+        @Override
+        public double minZ() {
+            return this.centerZ() - this.radius();
+        }
+
+        @Override
+        public double maxX() {
+            return this.centerX() + this.radius();
+        }
+
+        @Override
+        public double maxZ() {
+            return this.centerZ() + this.radius();
+        }
+
+    }
+
+    /**
+     * A polygonal zone shape.
+     * <p>
+     * Containment is determined using the even-odd rule, so self-intersecting polygons are supported.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class PolygonShape implements ZoneShape {
+
+        /**
+         * The X positions of each vertex.
+         *
+         * @since 2.3.0
+         */
+        private final double[] xs;
+        /**
+         * The Z positions of each vertex.
+         *
+         * @since 2.3.0
+         */
+        private final double[] zs;
+        /**
+         * The minimum X position.
+         *
+         * @since 2.3.0
+         */
+        private final double minX;
+        /**
+         * The minimum Z position.
+         *
+         * @since 2.3.0
+         */
+        private final double minZ;
+        /**
+         * The maximum X position.
+         *
+         * @since 2.3.0
+         */
+        private final double maxX;
+        /**
+         * The maximum Z position.
+         *
+         * @since 2.3.0
+         */
+        private final double maxZ;
+
+        /**
+         * Creates a new polygon shape.
+         *
+         * @param xs The X positions of each vertex.
+         * @param zs The Z positions of each vertex.
+         *
+         * @since 2.3.0
+         */
+        public PolygonShape(double[] xs, double[] zs) {
+            if (xs.length != zs.length || xs.length < 3) {
+                throw new IllegalArgumentException("Expected at least three vertices");
+            }
+
+            this.xs = xs.clone();
+            this.zs = zs.clone();
+
+            double minX = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+
+            for (int index = 0; index < xs.length; index += 1) {
+                minX = Math.min(minX, xs[index]);
+                minZ = Math.min(minZ, zs[index]);
+                maxX = Math.max(maxX, xs[index]);
+                maxZ = Math.max(maxZ, zs[index]);
+            }
+
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+        }
+
+        /**
+         * Parses a JSON object and creates a new {@link PolygonShape} from the resolved data.
+         *
+         * @param object The JSON object.
+         *
+         * @return A new polygon shape.
+         *
+         * @throws JsonSyntaxException If a field is invalid or missing from the given object.
+         * @since 2.3.0
+         */
+        public static PolygonShape parse(JsonObject object) throws JsonSyntaxException {
+            final JsonArray points = JsonHelper.getArray(object, "points");
+
+            if (points.size() < 3) throw new JsonSyntaxException("Expected at least three points");
+
+            final double[] xs = new double[points.size()];
+            final double[] zs = new double[points.size()];
+
+            for (int index = 0; index < points.size(); index += 1) {
+                final double[] point = ZoneShape.parsePoint(points.get(index), "points");
+
+                xs[index] = point[0];
+                zs[index] = point[1];
+            }
+
+            return new PolygonShape(xs, zs);
+        }
+
+        @Override
+        public boolean contains(double x, double z) {
+            if (x < this.minX || x > this.maxX || z < this.minZ || z > this.maxZ) return false;
+
+            boolean inside = false;
+
+            for (int index = 0, previous = this.xs.length - 1; index < this.xs.length; previous = index++) {
+                final double x1 = this.xs[index], z1 = this.zs[index];
+                final double x2 = this.xs[previous], z2 = this.zs[previous];
+
+                if ((z1 > z) != (z2 > z) && x < (x2 - x1) * (z - z1) / (z2 - z1) + x1) {
+                    inside = !inside;
+                }
+            }
+
+            return inside;
+        }
+
+        @Override
+        public double minX() {
+            return this.minX;
+        }
+
+        @Override
+        public double minZ() {
+            return this.minZ;
+        }
+
+        @Override
+        public double maxX() {
+            return this.maxX;
+        }
+
+        @Override
+        public double maxZ() {
+            return this.maxZ;
+        }
+
+    }
+
+    /**
+     * Determines how many scaling steps are applied at a position within a challenge zone.
+     * <p>
+     * The number of steps grows linearly with the distance from the curve's center, measured in chunks, and is clamped
+     * between zero and the curve's maximum.
+     *
+     * @param base The number of steps applied at the center.
+     * @param perChunk The number of steps added per chunk of distance, or {@link Double#NaN} to use the reciprocal of
+     *     the configured chunk step.
+     * @param centerX The center X position.
+     * @param centerZ The center Z position.
+     * @param max The maximum number of steps.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record ZoneCurve(double base, double perChunk, double centerX, double centerZ, double max) {
+
+        /**
+         * Creates a new curve that matches the default radial scaling, centered on the given shape.
+         *
+         * @param shape The zone's shape.
+         *
+         * @return A new zone curve.
+         *
+         * @since 2.3.0
+         */
+        public static ZoneCurve radial(ZoneShape shape) {
+            return new ZoneCurve(0D, Double.NaN, shape.centerX(), shape.centerZ(), Double.POSITIVE_INFINITY);
+        }
+
+        /**
+         * Parses a JSON object and creates a new {@link ZoneCurve} from the resolved data.
+         *
+         * @param shape The zone's shape, used as the default center.
+         * @param object The JSON object.
+         *
+         * @return A new zone curve.
+         *
+         * @throws JsonSyntaxException If a field is invalid or missing from the given object.
+         * @since 2.3.0
+         */
+        public static ZoneCurve parse(ZoneShape shape, JsonObject object) throws JsonSyntaxException {
+            final double base = JsonHelper.getDouble(object, "base", 0D);
+            final double perChunk = object.has("per_chunk") ? JsonHelper.getDouble(object, "per_chunk") : Double.NaN;
+            final double max = JsonHelper.getDouble(object, "max", Double.POSITIVE_INFINITY);
+            final double[] center;
+
+            if (object.has("center")) {
+                center = ZoneShape.parsePoint(object.get("center"), "center");
+            } else {
+                center = new double[] { shape.centerX(), shape.centerZ() };
+            }
+
+            return new ZoneCurve(base, perChunk, center[0], center[1], max);
+        }
+
+        /**
+         * Returns the number of scaling steps applied at the given position.
+         *
+         * @param x The X position.
+         * @param z The Z position.
+         * @param settings The current challenge settings.
+         *
+         * @return The number of scaling steps.
+         *
+         * @since 2.3.0
+         */
+        public double getSteps(double x, double z, ChallengeSettings settings) {
+            final double perChunk = Double.isNaN(this.perChunk()) ? 1D / settings.chunkStep() : this.perChunk();
+            final double offsetX = x - this.centerX();
+            final double offsetZ = z - this.centerZ();
+            final double chunks = Math.sqrt((offsetX * offsetX) + (offsetZ * offsetZ)) / 16D;
+
+            return Math.min(Math.max(this.base() + (perChunk * chunks), 0D), this.max());
+        }
+
+    }
+
+    /**
+     * An immutable spatial index of all loaded challenge zones.
+     * <p>
+     * Each dimension's zones are bucketed into a grid of fixed-size cells, so finding the zone at a position only
+     * requires testing the zones that overlap a single cell. Zones that would span too many cells are instead tested
+     * for every lookup.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class ZoneIndex {
+
+        /**
+         * An index that contains no zones.
+         *
+         * @since 2.3.0
+         */
+        public static final ZoneIndex EMPTY = new ZoneIndex(List.of());
+
+        /**
+         * The base-two logarithm of the width of each cell in blocks, which results in cells of eight by eight chunks.
+         *
+         * @since 2.3.0
+         */
+        public static final int CELL_SHIFT = 7;
+        /**
+         * The maximum number of cells that a single zone may be bucketed into.
+         *
+         * @since 2.3.0
+         */
+        public static final int MAX_ZONE_CELLS = 16_384;
+
+        /**
+         * The currently published index.
+         *
+         * @since 2.3.0
+         */
+        private static volatile ZoneIndex current = EMPTY;
+
+        /**
+         * The index's layers, keyed by dimension.
+         *
+         * @since 2.3.0
+         */
+        private final Map<RegistryKey<World>, Layer> layers;
+        /**
+         * The total number of zones.
+         *
+         * @since 2.3.0
+         */
+        private final int size;
+
+        /**
+         * Creates a new zone index.
+         *
+         * @param zones The indexed zones.
+         *
+         * @since 2.3.0
+         */
+        public ZoneIndex(Collection<ChallengeZone> zones) {
+            final Map<RegistryKey<World>, List<ChallengeZone>> grouped = new Object2ObjectOpenHashMap<>();
+
+            for (final ChallengeZone zone : zones) {
+                grouped.computeIfAbsent(zone.dimension(), key -> new ObjectArrayList<>()).add(zone);
+            }
+
+            this.layers = new Object2ObjectOpenHashMap<>(grouped.size());
+            this.size = zones.size();
+
+            grouped.forEach((dimension, list) -> this.layers.put(dimension, new Layer(list)));
+        }
+
+        /**
+         * Returns the currently published index.
+         *
+         * @return The current index.
+         *
+         * @since 2.3.0
+         */
+        public static ZoneIndex get() {
+            return current;
+        }
+
+        /**
+         * Publishes the given index, replacing the current index.
+         *
+         * @param index The new index.
+         *
+         * @since 2.3.0
+         */
+        public static void publish(ZoneIndex index) {
+            current = index;
+        }
+
+        /**
+         * Returns the layer containing the given dimension's zones.
+         *
+         * @param dimension The dimension.
+         *
+         * @return The dimension's layer.
+         *
+         * @since 2.3.0
+         */
+        public Layer getLayer(RegistryKey<World> dimension) {
+            return this.layers.getOrDefault(dimension, Layer.EMPTY);
+        }
+
+        /**
+         * Returns the total number of indexed zones.
+         *
+         * @return The number of zones.
+         *
+         * @since 2.3.0
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns whether this index contains no zones.
+         *
+         * @return Whether this index is empty.
+         *
+         * @since 2.3.0
+         */
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        /**
+         * The zones of a single dimension.
+         *
+         * @author Jaxydog
+         * @since 2.3.0
+         */
+        public static final class Layer {
+
+            /**
+             * A layer that contains no zones.
+             *
+             * @since 2.3.0
+             */
+            public static final Layer EMPTY = new Layer(List.of());
+
+            /**
+             * The zones that overlap each cell, keyed by packed cell position and sorted by priority.
+             *
+             * @since 2.3.0
+             */
+            private final Long2ObjectOpenHashMap<ChallengeZone[]> cells = new Long2ObjectOpenHashMap<>();
+            /**
+             * The zones that span too many cells to be bucketed, sorted by priority.
+             *
+             * @since 2.3.0
+             */
+            private final ChallengeZone[] large;
+
+            /**
+             * Creates a new layer.
+             *
+             * @param zones The layer's zones.
+             *
+             * @since 2.3.0
+             */
+            private Layer(List<ChallengeZone> zones) {
+                final List<ChallengeZone> sorted = zones.stream().sorted(ChallengeZone.COMPARATOR).toList();
+                final Long2ObjectOpenHashMap<List<ChallengeZone>> buckets = new Long2ObjectOpenHashMap<>();
+                final List<ChallengeZone> large = new ObjectArrayList<>();
+
+                for (final ChallengeZone zone : sorted) {
+                    final ZoneShape shape = zone.shape();
+                    final int minX = MathHelper.floor(shape.minX()) >> CELL_SHIFT;
+                    final int minZ = MathHelper.floor(shape.minZ()) >> CELL_SHIFT;
+                    final int maxX = MathHelper.floor(shape.maxX()) >> CELL_SHIFT;
+                    final int maxZ = MathHelper.floor(shape.maxZ()) >> CELL_SHIFT;
+                    final long cellCount = ((long) maxX - minX + 1L) * ((long) maxZ - minZ + 1L);
+
+                    if (cellCount > MAX_ZONE_CELLS) {
+                        large.add(zone);
+
+                        continue;
+                    }
+
+                    for (int x = minX; x <= maxX; x += 1) {
+                        for (int z = minZ; z <= maxZ; z += 1) {
+                            buckets.computeIfAbsent(ChunkPos.toLong(x, z), key -> new ObjectArrayList<>()).add(zone);
+                        }
+                    }
+                }
+
+                // Zones were inserted in priority order, so each bucket is already sorted.
+                for (final Long2ObjectMap.Entry<List<ChallengeZone>> entry : buckets.long2ObjectEntrySet()) {
+                    this.cells.put(entry.getLongKey(), entry.getValue().toArray(ChallengeZone[]::new));
+                }
+
+                this.cells.trim();
+                this.large = large.toArray(ChallengeZone[]::new);
+            }
+
+            /**
+             * Returns the highest priority zone that contains the given position.
+             *
+             * @param x The X position.
+             * @param y The Y position.
+             * @param z The Z position.
+             *
+             * @return The zone at the given position, or {@code null} if no zone contains it.
+             *
+             * @since 2.3.0
+             */
+            public @Nullable ChallengeZone find(double x, double y, double z) {
+                if (this.cells.isEmpty() && this.large.length == 0) return null;
+
+                final int cellX = MathHelper.floor(x) >> CELL_SHIFT;
+                final int cellZ = MathHelper.floor(z) >> CELL_SHIFT;
+                final ChallengeZone[] bucket = this.cells.get(ChunkPos.toLong(cellX, cellZ));
+                ChallengeZone found = null;
+
+                if (bucket != null) {
+                    for (final ChallengeZone zone : bucket) {
+                        if (zone.contains(x, y, z)) {
+                            found = zone;
+
+                            break;
+                        }
+                    }
+                }
+
+                for (final ChallengeZone zone : this.large) {
+                    if (found != null && ChallengeZone.COMPARATOR.compare(zone, found) >= 0) break;
+
+                    if (zone.contains(x, y, z)) return zone;
+                }
+
+                return found;
+            }
+
+        }
+
+    }
+
 }
@@ -20,25 +20,32 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import dev.jaxydog.astral.Astral;
 import dev.jaxydog.astral.content.AstralGamerules;
+import dev.jaxydog.astral.utility.injected.AstralPlayerInventory;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.Registries;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
-import net.minecraft.util.Pair;
-import net.minecraft.util.collection.WeightedList;
 import net.minecraft.util.math.random.Random;
 import org.jetbrains.annotations.ApiStatus.NonExtendable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -86,27 +93,83 @@ public interface CurrencyHelper {
      * @since 2.0.0
      */
     static void dropRewards(PlayerEntity player, int rolls) {
-        if (Reward.REWARDS.isEmpty()) return;
+        final ExchangeTransaction transaction = new ExchangeTransaction(player);
+
+        dropRewards(transaction, rolls);
+
+        transaction.apply();
+    }
+
+    /**
+     * Drops rewards to the player of the provided exchange transaction.
+     * <p>
+     * If the transaction has no player, no rewards are rolled.
+     *
+     * @param transaction The exchange transaction.
+     * @param rolls The attempts at rolling a reward.
+     *
+     * @since 2.3.0
+     */
+    static void dropRewards(ExchangeTransaction transaction, int rolls) {
+        final RewardSampler sampler = transaction.getCurrencies().sampler();
+        final PlayerEntity player = transaction.getPlayer();
+
+        if (sampler.isEmpty() || player == null) return;
 
         final Random random = player.getRandom();
         final double chance = player.getWorld().getGameRules().get(AstralGamerules.CURRENCY_REWARD_CHANCE).get();
+        final int count = countSuccesses(random, rolls, chance);
 
-        int count = 0;
+        if (count == 0) return;
 
-        for (int iteration = 0; iteration < rolls; iteration += 1) {
-            if (random.nextDouble() <= chance) count += 1;
+        for (int iteration = 0; iteration < count; iteration += 1) {
+            transaction.offer(sampler.sample(random).getItem().getDefaultStack());
         }
+    }
+
+    /**
+     * Returns the number of successful rolls out of the given number of attempts, where each roll succeeds with the
+     * given chance.
+     * <p>
+     * Rather than rolling each attempt, this skips directly between successes (or failures, whichever is less likely)
+     * using geometrically distributed gaps. This takes time proportional to the number of the less likely outcome.
+     *
+     * @param random The random number generator.
+     * @param rolls The number of attempts.
+     * @param chance The chance of each attempt succeeding.
+     *
+     * @return The number of successful rolls.
+     *
+     * @since 2.3.0
+     */
+    static int countSuccesses(Random random, int rolls, double chance) {
+        if (rolls <= 0 || chance <= 0D) return 0;
+        if (chance >= 1D) return rolls;
+
+        final boolean inverted = chance > 0.5D;
+        final double logFailure = Math.log1p(-(inverted ? 1D - chance : chance));
+
+        int count = 0;
+        int position = 0;
+
+        while (true) {
+            // Sample within (0, 1] to avoid taking the logarithm of zero.
+            final double gap = Math.floor(Math.log(1D - random.nextDouble()) / logFailure);
 
-        final List<Reward> rewards = Reward.getRandom(count);
-        final PlayerInventory inventory = player.getInventory();
+            // Compare as doubles, since very unlikely outcomes may produce gaps that overflow an integer.
+            if (gap >= rolls - position) break;
 
-        for (final Reward reward : rewards) {
-            inventory.offerOrDrop(reward.getItem().getDefaultStack());
+            position += (int) gap + 1;
+            count += 1;
         }
+
+        return inverted ? rolls - count : count;
     }
 
     /**
      * Automatically exchanges currency items within a player's inventory.
+     * <p>
+     * All changes are planned against a single snapshot of the player's inventory, and are then applied at once.
      *
      * @param player The target player entity.
      *
@@ -115,62 +178,73 @@ public interface CurrencyHelper {
     static void tryExchange(PlayerEntity player) {
         if (player.getWorld().isClient()) return;
 
-        // Collect a list of stacks within the inventory.
-        final PlayerInventory inventory = player.getInventory();
-        final List<ItemStack> stacks = new ObjectArrayList<>();
-
-        for (int slot = 0; slot < inventory.size(); slot += 1) {
-            final ItemStack stack = inventory.getStack(slot);
+        tryExchange(new ExchangeTransaction(player));
+    }
 
-            if (!stack.isEmpty()) stacks.add(stack);
-        }
+    /**
+     * Plans and applies the exchange of all currency items within an exchange transaction.
+     *
+     * @param transaction The exchange transaction.
+     *
+     * @since 2.3.0
+     */
+    static void tryExchange(ExchangeTransaction transaction) {
+        tryExchangeUnits(transaction);
+        tryExchangeRewards(transaction);
 
-        // Find all stacks associated with currency units.
-        final List<Pair<ItemStack, Unit>> units = stacks.stream()
-            .flatMap(s -> Unit.UNITS.find(s).stream().map(u -> new Pair<>(s, u)))
-            .toList();
+        transaction.apply();
+    }
 
-        // Re-compute the stack array if the inventory was changed.
-        if (tryExchangeUnits(player, units)) {
-            stacks.clear();
+    /**
+     * Automatically exchanges currency items within a player's inventory if it has been modified since its last
+     * exchange.
+     * <p>
+     * The inventory is marked as exchanged <i>before</i> the exchange is performed, meaning that any changes made by
+     * the exchange itself will cause another exchange on the next tick. This allows chained exchanges to settle in the
+     * same way that they did when exchanges were performed every tick.
+     *
+     * @param player The target player entity.
+     *
+     * @since 2.3.0
+     */
+    @SuppressWarnings("RedundantCast")
+    static void tryExchangeIfModified(PlayerEntity player) {
+        if (player.getWorld().isClient()) return;
 
-            for (int slot = 0; slot < inventory.size(); slot += 1) {
-                final ItemStack stack = inventory.getStack(slot);
+        final AstralPlayerInventory inventory = (AstralPlayerInventory) player.getInventory();
 
-                if (!stack.isEmpty()) stacks.add(stack);
-            }
-        }
+        if (!inventory.astral$hasPendingExchange()) return;
 
-        // Find all stacks associated with currency units.
-        final List<Pair<ItemStack, Reward>> rewards = stacks.stream()
-            .flatMap(s -> Reward.REWARDS.find(s).stream().map(r -> new Pair<>(s, r)))
-            .toList();
+        inventory.astral$markExchanged();
 
-        tryExchangeRewards(player, rewards);
+        tryExchange(player);
     }
 
     /**
-     * Automatically exchanges currency units within a player's inventory.
+     * Plans the exchange of all currency units within an exchange transaction.
      *
-     * @param player The target player entity.
-     * @param pairs Pairs of item stacks, and their associated units.
+     * @param transaction The exchange transaction.
      *
-     * @return Whether the player's inventory was modified.
+     * @return Whether the transaction was modified.
      *
      * @since 2.0.0
      */
-    static boolean tryExchangeUnits(PlayerEntity player, List<Pair<ItemStack, Unit>> pairs) {
-        final Map<Unit, Integer> counts = new Object2IntOpenHashMap<>(pairs.size());
+    static boolean tryExchangeUnits(ExchangeTransaction transaction) {
+        final CurrencySnapshot currencies = transaction.getCurrencies();
+        final Map<Unit, Integer> counts = new Object2IntOpenHashMap<>();
 
         // Count all units, ignoring stacks that cannot be exchanged.
-        for (final Pair<ItemStack, Unit> pair : pairs) {
-            final ItemStack stack = pair.getLeft();
-            final Unit unit = pair.getRight();
+        for (int slot = 0; slot < transaction.size(); slot += 1) {
+            final int count = transaction.getCount(slot);
 
-            if (canExchange(stack)) counts.merge(unit, stack.getCount(), Integer::sum);
+            if (count == 0) continue;
+
+            final ItemStack stack = transaction.getStack(slot);
+            final Optional<Unit> unit = currencies.units().find(stack);
+
+            if (unit.isPresent() && canExchange(stack)) counts.merge(unit.get(), count, Integer::sum);
         }
 
-        final PlayerInventory inventory = player.getInventory();
         boolean changed = false;
 
         for (final Entry<Unit, Integer> entry : counts.entrySet()) {
@@ -179,44 +253,24 @@ public interface CurrencyHelper {
 
             if (count == 0) continue;
 
-            final Optional<Entry<Identifier, Unit>> maybeNext = unit.next(true);
-
-            if (maybeNext.isEmpty()) continue;
+            final Exchange exchange = currencies.exchanges().get(unit);
 
-            // Calculate the price and total units crafted.
-            final String thisNamespace = Unit.UNITS.getId(unit).map(Identifier::getNamespace).orElse(Astral.MOD_ID);
-            final String nextNamespace = maybeNext.get().getKey().getNamespace();
-            final Unit next = maybeNext.get().getValue();
-            final int price;
-
-            if (thisNamespace.equals(nextNamespace)) {
-                price = next.value() / unit.value();
-            } else if (unit.exchangeMap().containsKey(nextNamespace)) {
-                price = next.value() / unit.exchangeMap().get(nextNamespace);
-            } else {
-                continue;
-            }
-
-            if (price == 0) continue;
+            if (exchange == null) continue;
 
+            // Calculate the total units crafted.
+            final Unit next = exchange.next();
+            final int price = exchange.price();
             final int total = count / price;
 
             if (total == 0) continue;
 
-            final ItemStack stack = next.getItem().getDefaultStack();
-
-            stack.setCount(total);
+            final Item item = unit.getItem();
 
             // Remove consumed items.
-            inventory.remove(
-                s -> s.getItem().equals(unit.getItem()) && canExchange(s),
-                total * price,
-                player.playerScreenHandler.getCraftingInput()
-            );
+            transaction.remove(s -> s.isOf(item) && canExchange(s), total * price);
+            transaction.offer(next.getItem().getDefaultStack().copyWithCount(total));
 
-            inventory.offerOrDrop(stack);
-
-            if (next.dropRewards()) dropRewards(player, total);
+            if (next.dropRewards()) dropRewards(transaction, total);
 
             changed = true;
         }
@@ -225,80 +279,55 @@ public interface CurrencyHelper {
     }
 
     /**
-     * Automatically exchanges currency rewards within a player's inventory.
+     * Plans the exchange of all currency rewards within an exchange transaction.
      *
-     * @param player The target player entity.
-     * @param pairs Pairs of item stacks, and their associated rewards.
+     * @param transaction The exchange transaction.
      *
-     * @return Whether the player's inventory was modified.
+     * @return Whether the transaction was modified.
      *
      * @since 2.0.0
      */
-    static boolean tryExchangeRewards(PlayerEntity player, List<Pair<ItemStack, Reward>> pairs) {
-        final Map<Reward, Integer> counts = new Object2IntOpenHashMap<>(pairs.size());
-        final List<Skeleton> craftableSkeletons = new ObjectArrayList<>();
-
-        // Count all rewards, ignoring stacks that cannot be exchanged.
-        for (final Pair<ItemStack, Reward> pair : pairs) {
-            final ItemStack stack = pair.getLeft();
-            final Reward reward = pair.getRight();
+    static boolean tryExchangeRewards(ExchangeTransaction transaction) {
+        final CurrencySnapshot currencies = transaction.getCurrencies();
+        final SkeletonSolver solver = currencies.solver();
 
-            if (canExchange(stack)) counts.merge(reward, stack.getCount(), Integer::sum);
-        }
-
-        // Grab a list of all craftable skeletons.
-        for (final Skeleton skeleton : Skeleton.SKELETONS.values()) {
-            if (!skeleton.hasRequirements(counts)) continue;
-
-            craftableSkeletons.add(skeleton);
-        }
+        if (solver.isEmpty()) return false;
 
-        final Map<Reward, Integer> removed = new Object2IntOpenHashMap<>(counts.size());
-        final Map<Skeleton, Integer> skeletons = new Object2IntOpenHashMap<>(craftableSkeletons.size());
+        final int[] counts = new int[solver.rewardCount()];
 
-        while (!craftableSkeletons.isEmpty()) {
-            final List<Skeleton> uncraftable = new ObjectArrayList<>();
+        // Count all rewards, ignoring stacks that cannot be exchanged.
+        for (int slot = 0; slot < transaction.size(); slot += 1) {
+            final int count = transaction.getCount(slot);
 
-            for (final Skeleton skeleton : craftableSkeletons) {
-                if (skeleton.hasRequirements(counts)) {
-                    for (final Reward reward : skeleton.getRequirements()) {
-                        removed.merge(reward, 1, Integer::sum);
-                        counts.computeIfPresent(reward, (r, n) -> n - 1);
-                    }
+            if (count == 0) continue;
 
-                    skeletons.merge(skeleton, 1, Integer::sum);
-                } else {
-                    uncraftable.add(skeleton);
-                }
-            }
+            final ItemStack stack = transaction.getStack(slot);
+            final int index = currencies.rewards().find(stack).map(solver::indexOf).orElse(-1);
 
-            craftableSkeletons.removeAll(uncraftable);
+            if (index >= 0 && canExchange(stack)) counts[index] += count;
         }
 
-        final PlayerInventory inventory = player.getInventory();
+        final SkeletonSolution solution = solver.solve(counts);
         boolean modified = false;
 
         // Remove all consumed reward items.
-        for (final Entry<Reward, Integer> entry : removed.entrySet()) {
-            final Reward reward = entry.getKey();
-            final int count = entry.getValue();
-            final int n = inventory.remove(
-                s -> s.getItem().equals(reward.getItem()) && canExchange(s),
-                count,
-                player.playerScreenHandler.getCraftingInput()
-            );
+        for (int index = 0; index < solution.removed().length; index += 1) {
+            final int count = solution.removed()[index];
 
-            if (n > 0) modified = true;
+            if (count == 0) continue;
+
+            final Item item = solver.getReward(index).getItem();
+
+            if (transaction.remove(s -> s.isOf(item) && canExchange(s), count) > 0) modified = true;
         }
 
         // Give all produced skeleton items.
-        for (final Entry<Skeleton, Integer> entry : skeletons.entrySet()) {
-            final Skeleton skeleton = entry.getKey();
-            final int count = entry.getValue();
-            final ItemStack stack = skeleton.getItem().getDefaultStack();
+        for (int index = 0; index < solution.crafted().length; index += 1) {
+            final int count = solution.crafted()[index];
 
-            stack.setCount(count);
-            inventory.offerOrDrop(stack);
+            if (count == 0) continue;
+
+            transaction.offer(solver.getSkeleton(index).getItem().getDefaultStack().copyWithCount(count));
 
             modified = true;
         }
@@ -351,61 +380,64 @@ public interface CurrencyHelper {
          *
          * @since 2.0.0
          */
-        private final Map<Identifier, T> inner = new Object2ObjectOpenHashMap<>();
-
+        private final Map<Identifier, T> inner;
         /**
-         * Sets the value at the given identifier.
-         *
-         * @param identifier The identifier.
-         * @param value The currency value.
+         * An index of registered items to their associated values.
          *
-         * @return The new size of the map.
-         *
-         * @since 2.0.0
+         * @since 2.3.0
          */
-        public int set(Identifier identifier, T value) {
-            this.inner.put(identifier, value);
-
-            return this.inner.size();
-        }
-
+        private final Map<Item, T> items;
         /**
-         * Sets the values at the given identifiers.
-         *
-         * @param values The value map.
+         * An index of values to their identifiers.
          *
-         * @return The new size of the map.
-         *
-         * @since 2.0.0
+         * @since 2.3.0
          */
-        public int set(Map<Identifier, T> values) {
-            this.inner.putAll(values);
-
-            return this.inner.size();
-        }
+        private final Map<T, Identifier> identifiers;
 
         /**
-         * Clears the map.
+         * Creates a new empty currency map.
          *
-         * @since 2.0.0
+         * @since 2.3.0
          */
-        public void clear() {
-            this.inner.clear();
+        public CurrencyMap() {
+            this(Map.of());
         }
 
         /**
-         * Loads the given values into this map.
+         * Creates a new currency map containing the given values.
+         * <p>
+         * Currency maps are immutable, allowing them to be shared between threads once they have been constructed.
+         * Values that reference unregistered items are not indexed by item, and will never be returned by any of the
+         * {@code find} methods.
          *
          * @param values The value map.
          *
-         * @return The new size of the map.
-         *
-         * @since 2.0.0
+         * @since 2.3.0
          */
-        public int load(Map<Identifier, T> values) {
-            this.clear();
+        public CurrencyMap(Map<Identifier, T> values) {
+            this.inner = Collections.unmodifiableMap(new Object2ObjectOpenHashMap<>(values));
+
+            final Map<Item, T> items = new Reference2ObjectOpenHashMap<>(values.size());
+            final Map<T, Identifier> identifiers = new Object2ObjectOpenHashMap<>(values.size());
+
+            for (final Entry<Identifier, T> entry : this.inner.entrySet()) {
+                final Identifier identifier = entry.getKey();
+                final T value = entry.getValue();
+
+                identifiers.putIfAbsent(value, identifier);
+
+                // Unregistered items are resolved to air, which should never be treated as currency.
+                final Item item = value.getItem();
+
+                if (item == Items.AIR) {
+                    Astral.LOGGER.warn("Currency '{}' references an unregistered item", identifier);
+                } else if (items.putIfAbsent(item, value) != null) {
+                    Astral.LOGGER.warn("Currency '{}' references an item that is already in use", identifier);
+                }
+            }
 
-            return this.set(values);
+            this.items = items;
+            this.identifiers = identifiers;
         }
 
         /**
@@ -418,7 +450,7 @@ public interface CurrencyHelper {
          * @since 2.0.0
          */
         public Optional<T> find(Identifier identifier) {
-            return this.inner.values().stream().filter(t -> t.getItemId().equals(identifier)).findFirst();
+            return Registries.ITEM.getOrEmpty(identifier).map(this.items::get);
         }
 
         /**
@@ -431,7 +463,20 @@ public interface CurrencyHelper {
          * @since 2.0.0
          */
         public Optional<T> find(Item item) {
-            return this.find(Registries.ITEM.getId(item));
+            return Optional.ofNullable(this.items.get(item));
+        }
+
+        /**
+         * Returns whether a value is associated with the provided item.
+         *
+         * @param item The item.
+         *
+         * @return Whether a value is associated with the provided item.
+         *
+         * @since 2.3.0
+         */
+        public boolean contains(Item item) {
+            return this.items.containsKey(item);
         }
 
         /**
@@ -457,11 +502,7 @@ public interface CurrencyHelper {
          * @since 2.0.0
          */
         public Optional<Identifier> getId(T value) {
-            return this.inner.entrySet()
-                .stream()
-                .filter(e -> e.getValue().equals(value))
-                .findFirst()
-                .map(Entry::getKey);
+            return Optional.ofNullable(this.identifiers.get(value));
         }
 
         /**
@@ -536,13 +577,6 @@ public interface CurrencyHelper {
         Identifier itemId, int value, boolean dropRewards, Map<String, Integer> exchangeMap
     ) implements ItemRepresentable, Comparable<Unit> {
 
-        /**
-         * A map containing all currently active currency units.
-         *
-         * @since 2.0.0
-         */
-        public static final CurrencyMap<Unit> UNITS = new CurrencyMap<>();
-
         /**
          * A comparator that compares by a unit's value.
          *
@@ -597,9 +631,10 @@ public interface CurrencyHelper {
          * @since 2.0.0
          */
         public Optional<Entry<Identifier, Unit>> next(boolean exactMultiple) {
-            final String thisNamespace = UNITS.getId(this).map(Identifier::getNamespace).orElse(Astral.MOD_ID);
+            final CurrencyMap<Unit> units = CurrencySnapshot.get().units();
+            final String thisNamespace = units.getId(this).map(Identifier::getNamespace).orElse(Astral.MOD_ID);
 
-            return UNITS.entrySet().stream().flatMap(entry -> {
+            return units.entrySet().stream().flatMap(entry -> {
                 final Identifier identifier = entry.getKey();
                 final Unit unit = entry.getValue();
                 final String nextNamespace = identifier.getNamespace();
@@ -667,6 +702,215 @@ public interface CurrencyHelper {
 
     }
 
+    /**
+     * A pre-computed exchange between two currency units.
+     *
+     * @param next The unit that is received through this exchange.
+     * @param price The number of source units required to receive a single {@code next} unit.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record Exchange(Unit next, int price) {}
+
+    /**
+     * An immutable graph of the exchanges between all loaded currency units.
+     * <p>
+     * This is compiled once per data reload, allowing exchanges to be resolved without searching through every loaded
+     * unit.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class ExchangeGraph {
+
+        /**
+         * The compiled exchanges, keyed by their source unit.
+         *
+         * @since 2.3.0
+         */
+        private final Map<Unit, Exchange> exchanges;
+
+        /**
+         * Creates a new exchange graph.
+         *
+         * @param exchanges The compiled exchanges, keyed by their source unit.
+         *
+         * @since 2.3.0
+         */
+        private ExchangeGraph(Map<Unit, Exchange> exchanges) {
+            this.exchanges = Collections.unmodifiableMap(exchanges);
+        }
+
+        /**
+         * Compiles the exchanges between the units within the given map.
+         *
+         * @param units The currency units.
+         *
+         * @return A new exchange graph.
+         *
+         * @since 2.3.0
+         */
+        public static ExchangeGraph compile(CurrencyMap<Unit> units) {
+            final Map<Unit, Exchange> exchanges = new Reference2ObjectOpenHashMap<>(units.size());
+            final Map<Unit, Identifier> identifiers = new Reference2ObjectOpenHashMap<>(units.size());
+
+            for (final Entry<Identifier, Unit> entry : units.entrySet()) {
+                identifiers.put(entry.getValue(), entry.getKey());
+
+                final Exchange exchange = compileExchange(entry.getKey().getNamespace(), entry.getValue(), units);
+
+                if (exchange != null) exchanges.put(entry.getValue(), exchange);
+            }
+
+            validate(identifiers, exchanges);
+
+            return new ExchangeGraph(exchanges);
+        }
+
+        /**
+         * Computes the exchange for the given unit.
+         * <p>
+         * This selects the same unit as {@link Unit#next(boolean)} when an exact multiple is required, and prices it in
+         * the same way that exchanges always have been.
+         *
+         * @param namespace The unit's namespace.
+         * @param unit The unit.
+         * @param units The currency units.
+         *
+         * @return The unit's exchange, or {@code null} if it cannot be exchanged.
+         *
+         * @since 2.3.0
+         */
+        private static @Nullable Exchange compileExchange(String namespace, Unit unit, CurrencyMap<Unit> units) {
+            Identifier nextId = null;
+            Unit next = null;
+            int nextKey = 0;
+
+            for (final Entry<Identifier, Unit> entry : units.entrySet()) {
+                final String otherNamespace = entry.getKey().getNamespace();
+                final Unit other = entry.getValue();
+                final Integer rate = unit.exchangeMap().get(otherNamespace);
+                final int value;
+
+                // Resolve the other unit's value within this unit's namespace.
+                if (namespace.equals(otherNamespace)) {
+                    value = other.value();
+                } else if (rate != null) {
+                    value = rate * other.value();
+                } else {
+                    continue;
+                }
+
+                // Ignore values that are not "next", or that are not perfectly divisible.
+                if (value <= unit.value() || value % unit.value() != 0) continue;
+
+                final int key = rate != null ? rate * other.value() : other.value();
+
+                // Strictly lower keys only, ensuring that the first minimum is kept.
+                if (next == null || key < nextKey) {
+                    nextId = entry.getKey();
+                    next = other;
+                    nextKey = key;
+                }
+            }
+
+            if (next == null) return null;
+
+            final String nextNamespace = nextId.getNamespace();
+            final Integer rate = unit.exchangeMap().get(nextNamespace);
+            final int price;
+
+            if (namespace.equals(nextNamespace)) {
+                price = next.value() / unit.value();
+            } else if (rate != null && rate != 0) {
+                price = next.value() / rate;
+            } else {
+                return null;
+            }
+
+            return price > 0 ? new Exchange(next, price) : null;
+        }
+
+        /**
+         * Logs any exchange cycles and any units that cannot be exchanged to or from another unit.
+         *
+         * @param identifiers The identifiers of each unit.
+         * @param exchanges The compiled exchanges.
+         *
+         * @since 2.3.0
+         */
+        private static void validate(Map<Unit, Identifier> identifiers, Map<Unit, Exchange> exchanges) {
+            final Set<Unit> received = new ReferenceOpenHashSet<>(exchanges.size());
+
+            for (final Exchange exchange : exchanges.values()) {
+                received.add(exchange.next());
+            }
+
+            if (identifiers.size() > 1) {
+                for (final Entry<Unit, Identifier> entry : identifiers.entrySet()) {
+                    if (exchanges.containsKey(entry.getKey()) || received.contains(entry.getKey())) continue;
+
+                    Astral.LOGGER.warn("Currency unit '{}' cannot be exchanged with any other unit", entry.getValue());
+                }
+            }
+
+            // Every unit has at most one exchange, so each cycle can be found by walking the chain from each unit.
+            final Set<Unit> visited = new ReferenceOpenHashSet<>(identifiers.size());
+
+            for (final Unit start : identifiers.keySet()) {
+                final List<Unit> path = new ObjectArrayList<>();
+                Unit current = start;
+
+                while (current != null && visited.add(current)) {
+                    path.add(current);
+
+                    final Exchange exchange = exchanges.get(current);
+
+                    current = exchange == null ? null : exchange.next();
+                }
+
+                // A cycle only exists if the walk ended on a unit that was visited during this walk.
+                final int index = current == null ? -1 : path.indexOf(current);
+
+                if (index < 0) continue;
+
+                final StringBuilder builder = new StringBuilder();
+
+                for (final Unit unit : path.subList(index, path.size())) {
+                    builder.append(identifiers.get(unit)).append(" -> ");
+                }
+
+                Astral.LOGGER.warn("Currency exchange cycle detected: {}", builder.append(identifiers.get(current)));
+            }
+        }
+
+        /**
+         * Returns the compiled exchange for the given unit.
+         *
+         * @param unit The source unit.
+         *
+         * @return The compiled exchange, or {@code null} if the unit cannot be exchanged.
+         *
+         * @since 2.3.0
+         */
+        public @Nullable Exchange get(Unit unit) {
+            return this.exchanges.get(unit);
+        }
+
+        /**
+         * Returns the total number of compiled exchanges.
+         *
+         * @return The total number of compiled exchanges.
+         *
+         * @since 2.3.0
+         */
+        public int size() {
+            return this.exchanges.size();
+        }
+
+    }
+
     /**
      * An item given as a reward for converting currency.
      *
@@ -678,13 +922,6 @@ public interface CurrencyHelper {
      */
     record Reward(Identifier itemId, int weight) implements ItemRepresentable {
 
-        /**
-         * A map containing all currently active currency rewards.
-         *
-         * @since 2.0.0
-         */
-        public static final CurrencyMap<Reward> REWARDS = new CurrencyMap<>();
-
         /**
          * Parses a JSON object and creates a new {@link Reward} from the resolved data.
          *
@@ -714,15 +951,28 @@ public interface CurrencyHelper {
          * @since 2.0.0
          */
         public static List<Reward> getRandom(int count) {
-            final int elements = Math.max(count, REWARDS.size());
-            final List<Reward> output = new ObjectArrayList<>(elements);
-            final WeightedList<Reward> rewards = new WeightedList<>();
+            return getRandom(Random.create(), count);
+        }
 
-            REWARDS.values().forEach(r -> rewards.add(r, r.weight()));
+        /**
+         * Returns a list of randomly generated rewards.
+         *
+         * @param random The random number generator.
+         * @param count The number of rewards to generate.
+         *
+         * @return A list of randomly generated rewards.
+         *
+         * @since 2.3.0
+         */
+        public static List<Reward> getRandom(Random random, int count) {
+            final RewardSampler sampler = CurrencySnapshot.get().sampler();
 
-            // Allows for duplicate elements, unlike `.limit(elements).toList()`.
-            for (int iteration = 0; iteration < elements; iteration += 1) {
-                rewards.shuffle().stream().findFirst().ifPresent(output::add);
+            if (sampler.isEmpty() || count <= 0) return List.of();
+
+            final List<Reward> output = new ObjectArrayList<>(count);
+
+            for (int iteration = 0; iteration < count; iteration += 1) {
+                output.add(sampler.sample(random));
             }
 
             return output;
@@ -750,13 +1000,6 @@ public interface CurrencyHelper {
      */
     record Skeleton(Identifier itemId, List<Identifier> requires) implements ItemRepresentable {
 
-        /**
-         * A map containing all currently active currency skeletons.
-         *
-         * @since 2.0.0
-         */
-        public static final CurrencyMap<Skeleton> SKELETONS = new CurrencyMap<>();
-
         /**
          * Parses a JSON object and creates a new {@link Skeleton} from the resolved data.
          *
@@ -800,7 +1043,22 @@ public interface CurrencyHelper {
          * @since 2.0.0
          */
         public List<Reward> getRequirements() {
-            return this.requires().stream().flatMap(i -> Reward.REWARDS.find(i).stream()).toList();
+            return this.getRequirements(CurrencySnapshot.get().rewards());
+        }
+
+        /**
+         * Returns a list of required reward entries, resolved using the given rewards.
+         * <p>
+         * If a requirement's identifier is not found it will be ignored.
+         *
+         * @param rewards The currency rewards.
+         *
+         * @return A list of required rewards.
+         *
+         * @since 2.3.0
+         */
+        public List<Reward> getRequirements(CurrencyMap<Reward> rewards) {
+            return this.requires().stream().flatMap(i -> rewards.find(i).stream()).toList();
         }
 
         /**
@@ -839,4 +1097,1008 @@ public interface CurrencyHelper {
 
     }
 
+    /**
+     * The result of solving which skeletons should be crafted from a set of rewards.
+     *
+     * @param removed The number of each reward consumed, indexed by the solver's reward indices.
+     * @param crafted The number of each skeleton crafted, indexed by the solver's skeleton indices.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    record SkeletonSolution(int[] removed, int[] crafted) {}
+
+    /**
+     * Determines which skeletons should be crafted from a set of held rewards.
+     * <p>
+     * Each skeleton is compiled into a sparse requirement vector once per data reload. Skeletons are then crafted in a
+     * round-robin, with each pass crafting every skeleton that is still affordable once, and permanently skipping any
+     * that are not. Rather than crafting one skeleton at a time, passes in which every skeleton is affordable are
+     * applied in bulk using integer division, so the number of passes is bounded by the number of skeletons.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class SkeletonSolver {
+
+        /**
+         * The compiled rewards, sorted by identifier.
+         *
+         * @since 2.3.0
+         */
+        private final Reward[] rewards;
+        /**
+         * The index of each compiled reward.
+         *
+         * @since 2.3.0
+         */
+        private final Reference2IntMap<Reward> indices;
+        /**
+         * The compiled skeletons, sorted by identifier.
+         *
+         * @since 2.3.0
+         */
+        private final Skeleton[] skeletons;
+        /**
+         * The reward indices required by each skeleton.
+         *
+         * @since 2.3.0
+         */
+        private final int[][] requiredIndices;
+        /**
+         * The number of each reward required by each skeleton, parallel to {@link #requiredIndices}.
+         *
+         * @since 2.3.0
+         */
+        private final int[][] requiredAmounts;
+
+        /**
+         * Creates a new skeleton solver.
+         *
+         * @param rewards The compiled rewards.
+         * @param indices The index of each compiled reward.
+         * @param skeletons The compiled skeletons.
+         * @param requiredIndices The reward indices required by each skeleton.
+         * @param requiredAmounts The number of each reward required by each skeleton.
+         *
+         * @since 2.3.0
+         */
+        private SkeletonSolver(
+            Reward[] rewards,
+            Reference2IntMap<Reward> indices,
+            Skeleton[] skeletons,
+            int[][] requiredIndices,
+            int[][] requiredAmounts
+        ) {
+            this.rewards = rewards;
+            this.indices = indices;
+            this.skeletons = skeletons;
+            this.requiredIndices = requiredIndices;
+            this.requiredAmounts = requiredAmounts;
+        }
+
+        /**
+         * Compiles the given rewards and skeletons.
+         * <p>
+         * Skeleton requirements that reference unknown rewards are ignored, and skeletons without any known
+         * requirements are skipped entirely.
+         *
+         * @param rewards The currency rewards.
+         * @param skeletons The currency skeletons.
+         *
+         * @return A new skeleton solver.
+         *
+         * @since 2.3.0
+         */
+        public static SkeletonSolver compile(CurrencyMap<Reward> rewards, CurrencyMap<Skeleton> skeletons) {
+            final List<Entry<Identifier, Reward>> sortedRewards = new ObjectArrayList<>(rewards.entrySet());
+            final List<Entry<Identifier, Skeleton>> sortedSkeletons = new ObjectArrayList<>(skeletons.entrySet());
+
+            sortedRewards.sort(Entry.comparingByKey());
+            sortedSkeletons.sort(Entry.comparingByKey());
+
+            final Reward[] compiledRewards = new Reward[sortedRewards.size()];
+            final Reference2IntMap<Reward> indices = new Reference2IntOpenHashMap<>(compiledRewards.length);
+
+            indices.defaultReturnValue(-1);
+
+            for (int index = 0; index < compiledRewards.length; index += 1) {
+                compiledRewards[index] = sortedRewards.get(index).getValue();
+                indices.put(compiledRewards[index], index);
+            }
+
+            final List<Skeleton> compiledSkeletons = new ObjectArrayList<>(sortedSkeletons.size());
+            final List<int[]> requiredIndices = new ObjectArrayList<>(sortedSkeletons.size());
+            final List<int[]> requiredAmounts = new ObjectArrayList<>(sortedSkeletons.size());
+            final int[] amounts = new int[compiledRewards.length];
+
+            for (final Entry<Identifier, Skeleton> entry : sortedSkeletons) {
+                Arrays.fill(amounts, 0);
+
+                int required = 0;
+
+                for (final Reward reward : entry.getValue().getRequirements(rewards)) {
+                    final int index = indices.getInt(reward);
+
+                    if (index < 0) continue;
+                    if (amounts[index] == 0) required += 1;
+
+                    amounts[index] += 1;
+                }
+
+                // Skeletons without any requirements could be crafted infinitely.
+                if (required == 0) {
+                    Astral.LOGGER.warn("Currency skeleton '{}' does not require any known rewards", entry.getKey());
+
+                    continue;
+                }
+
+                final int[] skeletonIndices = new int[required];
+                final int[] skeletonAmounts = new int[required];
+
+                for (int index = 0, offset = 0; index < amounts.length; index += 1) {
+                    if (amounts[index] == 0) continue;
+
+                    skeletonIndices[offset] = index;
+                    skeletonAmounts[offset] = amounts[index];
+                    offset += 1;
+                }
+
+                compiledSkeletons.add(entry.getValue());
+                requiredIndices.add(skeletonIndices);
+                requiredAmounts.add(skeletonAmounts);
+            }
+
+            return new SkeletonSolver(
+                compiledRewards,
+                indices,
+                compiledSkeletons.toArray(Skeleton[]::new),
+                requiredIndices.toArray(int[][]::new),
+                requiredAmounts.toArray(int[][]::new)
+            );
+        }
+
+        /**
+         * Solves which skeletons should be crafted from the given reward counts.
+         * <p>
+         * This produces the same result as crafting skeletons one at a time in round-robin order.
+         *
+         * @param counts The number of each held reward, indexed by this solver's reward indices. This array is modified
+         * to contain the number of each reward remaining after crafting.
+         *
+         * @return The number of each reward consumed and each skeleton crafted.
+         *
+         * @since 2.3.0
+         */
+        public SkeletonSolution solve(int[] counts) {
+            final int[] removed = new int[this.rewards.length];
+            final int[] crafted = new int[this.skeletons.length];
+            final int[] demand = new int[this.rewards.length];
+            final boolean[] active = new boolean[this.skeletons.length];
+            int remaining = 0;
+
+            // Only skeletons that are initially affordable are ever considered.
+            for (int skeleton = 0; skeleton < this.skeletons.length; skeleton += 1) {
+                if (!this.canCraft(skeleton, counts)) continue;
+
+                active[skeleton] = true;
+                remaining += 1;
+            }
+
+            while (remaining > 0) {
+                Arrays.fill(demand, 0);
+
+                // Sum the requirements of a single pass in which every active skeleton is crafted.
+                for (int skeleton = 0; skeleton < this.skeletons.length; skeleton += 1) {
+                    if (!active[skeleton]) continue;
+
+                    final int[] indices = this.requiredIndices[skeleton];
+                    final int[] amounts = this.requiredAmounts[skeleton];
+
+                    for (int index = 0; index < indices.length; index += 1) {
+                        demand[indices[index]] += amounts[index];
+                    }
+                }
+
+                // Every active skeleton is affordable for this many passes.
+                int passes = Integer.MAX_VALUE;
+
+                for (int index = 0; index < demand.length; index += 1) {
+                    if (demand[index] > 0) passes = Math.min(passes, counts[index] / demand[index]);
+                }
+
+                if (passes > 0) {
+                    for (int skeleton = 0; skeleton < this.skeletons.length; skeleton += 1) {
+                        if (active[skeleton]) crafted[skeleton] += passes;
+                    }
+
+                    for (int index = 0; index < demand.length; index += 1) {
+                        counts[index] -= passes * demand[index];
+                        removed[index] += passes * demand[index];
+                    }
+                }
+
+                // At least one skeleton is now unaffordable, so run a single pass one skeleton at a time.
+                for (int skeleton = 0; skeleton < this.skeletons.length; skeleton += 1) {
+                    if (!active[skeleton]) continue;
+
+                    if (!this.canCraft(skeleton, counts)) {
+                        active[skeleton] = false;
+                        remaining -= 1;
+
+                        continue;
+                    }
+
+                    final int[] indices = this.requiredIndices[skeleton];
+                    final int[] amounts = this.requiredAmounts[skeleton];
+
+                    for (int index = 0; index < indices.length; index += 1) {
+                        counts[indices[index]] -= amounts[index];
+                        removed[indices[index]] += amounts[index];
+                    }
+
+                    crafted[skeleton] += 1;
+                }
+            }
+
+            return new SkeletonSolution(removed, crafted);
+        }
+
+        /**
+         * Returns whether the given skeleton can be crafted from the given reward counts.
+         *
+         * @param skeleton The skeleton's index.
+         * @param counts The number of each held reward.
+         *
+         * @return Whether the given skeleton can be crafted.
+         *
+         * @since 2.3.0
+         */
+        private boolean canCraft(int skeleton, int[] counts) {
+            final int[] indices = this.requiredIndices[skeleton];
+            final int[] amounts = this.requiredAmounts[skeleton];
+
+            for (int index = 0; index < indices.length; index += 1) {
+                if (counts[indices[index]] < amounts[index]) return false;
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns the index of the given reward, or {@code -1} if it is not used by this solver.
+         *
+         * @param reward The reward.
+         *
+         * @return The index of the given reward.
+         *
+         * @since 2.3.0
+         */
+        public int indexOf(Reward reward) {
+            return this.indices.getInt(reward);
+        }
+
+        /**
+         * Returns the reward at the given index.
+         *
+         * @param index The reward's index.
+         *
+         * @return The reward at the given index.
+         *
+         * @since 2.3.0
+         */
+        public Reward getReward(int index) {
+            return this.rewards[index];
+        }
+
+        /**
+         * Returns the skeleton at the given index.
+         *
+         * @param index The skeleton's index.
+         *
+         * @return The skeleton at the given index.
+         *
+         * @since 2.3.0
+         */
+        public Skeleton getSkeleton(int index) {
+            return this.skeletons[index];
+        }
+
+        /**
+         * Returns the number of compiled rewards.
+         *
+         * @return The number of compiled rewards.
+         *
+         * @since 2.3.0
+         */
+        public int rewardCount() {
+            return this.rewards.length;
+        }
+
+        /**
+         * Returns the number of compiled skeletons.
+         *
+         * @return The number of compiled skeletons.
+         *
+         * @since 2.3.0
+         */
+        public int skeletonCount() {
+            return this.skeletons.length;
+        }
+
+        /**
+         * Returns whether this solver has no compiled skeletons.
+         *
+         * @return Whether this solver has no compiled skeletons.
+         *
+         * @since 2.3.0
+         */
+        public boolean isEmpty() {
+            return this.skeletons.length == 0;
+        }
+
+    }
+
+    /**
+     * A weighted random sampler for currency rewards.
+     * <p>
+     * This uses Vose's alias method, which is compiled once per data reload and allows each sample to be drawn in
+     * constant time regardless of the number of rewards.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class RewardSampler {
+
+        /**
+         * The compiled rewards, sorted by identifier.
+         *
+         * @since 2.3.0
+         */
+        private final Reward[] rewards;
+        /**
+         * The probability of each column returning its own reward rather than its alias.
+         *
+         * @since 2.3.0
+         */
+        private final double[] probabilities;
+        /**
+         * The index of each column's alias reward.
+         *
+         * @since 2.3.0
+         */
+        private final int[] aliases;
+
+        /**
+         * Creates a new reward sampler.
+         *
+         * @param rewards The compiled rewards.
+         * @param probabilities The probability of each column returning its own reward.
+         * @param aliases The index of each column's alias reward.
+         *
+         * @since 2.3.0
+         */
+        private RewardSampler(Reward[] rewards, double[] probabilities, int[] aliases) {
+            this.rewards = rewards;
+            this.probabilities = probabilities;
+            this.aliases = aliases;
+        }
+
+        /**
+         * Compiles the given rewards.
+         *
+         * @param rewards The currency rewards.
+         *
+         * @return A new reward sampler.
+         *
+         * @since 2.3.0
+         */
+        public static RewardSampler compile(CurrencyMap<Reward> rewards) {
+            final List<Entry<Identifier, Reward>> sorted = new ObjectArrayList<>(rewards.entrySet());
+
+            sorted.sort(Entry.comparingByKey());
+
+            final int size = sorted.size();
+            final Reward[] compiledRewards = new Reward[size];
+            final double[] probabilities = new double[size];
+            final int[] aliases = new int[size];
+            long totalWeight = 0L;
+
+            for (int index = 0; index < size; index += 1) {
+                compiledRewards[index] = sorted.get(index).getValue();
+                totalWeight += compiledRewards[index].weight();
+            }
+
+            // Scale each weight such that the average column has a weight of one.
+            final double[] scaled = new double[size];
+            final IntArrayList small = new IntArrayList(size);
+            final IntArrayList large = new IntArrayList(size);
+
+            for (int index = 0; index < size; index += 1) {
+                scaled[index] = (double) compiledRewards[index].weight() * size / totalWeight;
+
+                if (scaled[index] < 1D) {
+                    small.add(index);
+                } else {
+                    large.add(index);
+                }
+            }
+
+            // Fill each under-weighted column with the remainder of an over-weighted column.
+            while (!small.isEmpty() && !large.isEmpty()) {
+                final int lesser = small.popInt();
+                final int greater = large.popInt();
+
+                probabilities[lesser] = scaled[lesser];
+                aliases[lesser] = greater;
+                scaled[greater] = (scaled[greater] + scaled[lesser]) - 1D;
+
+                if (scaled[greater] < 1D) {
+                    small.add(greater);
+                } else {
+                    large.add(greater);
+                }
+            }
+
+            // Any remaining columns are full, barring floating-point error.
+            while (!large.isEmpty()) {
+                probabilities[large.popInt()] = 1D;
+            }
+            while (!small.isEmpty()) {
+                probabilities[small.popInt()] = 1D;
+            }
+
+            return new RewardSampler(compiledRewards, probabilities, aliases);
+        }
+
+        /**
+         * Returns a randomly selected reward, weighted by each reward's weight.
+         *
+         * @param random The random number generator.
+         *
+         * @return A randomly selected reward.
+         *
+         * @throws IllegalStateException If this sampler is empty.
+         * @since 2.3.0
+         */
+        public Reward sample(Random random) {
+            if (this.isEmpty()) throw new IllegalStateException("Cannot sample an empty reward table");
+
+            final int column = random.nextInt(this.rewards.length);
+
+            if (random.nextDouble() < this.probabilities[column]) {
+                return this.rewards[column];
+            } else {
+                return this.rewards[this.aliases[column]];
+            }
+        }
+
+        /**
+         * Returns the number of compiled rewards.
+         *
+         * @return The number of compiled rewards.
+         *
+         * @since 2.3.0
+         */
+        public int size() {
+            return this.rewards.length;
+        }
+
+        /**
+         * Returns whether this sampler has no compiled rewards.
+         *
+         * @return Whether this sampler has no compiled rewards.
+         *
+         * @since 2.3.0
+         */
+        public boolean isEmpty() {
+            return this.rewards.length == 0;
+        }
+
+    }
+
+    /**
+     * A planned set of changes to a player's inventory, used to perform currency exchanges.
+     * <p>
+     * All removals and insertions are planned against a single snapshot of the inventory's main, armor, and off-hand
+     * slots, and are only applied once {@link #apply()} is called. This results in a single pass over the inventory
+     * and a single change notification, rather than one per exchanged currency type.
+     * <p>
+     * Planned insertions are placed into the same slots that {@link PlayerInventory#offerOrDrop(ItemStack)} would use.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class ExchangeTransaction {
+
+        /**
+         * The player whose inventory is being modified, or {@code null} if it has no player.
+         *
+         * @since 2.3.0
+         */
+        private final @Nullable PlayerEntity player;
+        /**
+         * The player's inventory.
+         *
+         * @since 2.3.0
+         */
+        private final PlayerInventory inventory;
+        /**
+         * The currencies that were loaded when the transaction was created.
+         *
+         * @since 2.3.0
+         */
+        private final CurrencySnapshot currencies;
+        /**
+         * The stacks held within each slot when the transaction was created.
+         *
+         * @since 2.3.0
+         */
+        private final ItemStack[] original;
+        /**
+         * The stack that is planned to be held within each slot, ignoring its count.
+         *
+         * @since 2.3.0
+         */
+        private final ItemStack[] stacks;
+        /**
+         * The count that is planned to be held within each slot.
+         *
+         * @since 2.3.0
+         */
+        private final int[] counts;
+        /**
+         * The stacks that are planned to be dropped.
+         *
+         * @since 2.3.0
+         */
+        private final List<ItemStack> dropped = new ObjectArrayList<>();
+        /**
+         * Whether any changes have been planned.
+         *
+         * @since 2.3.0
+         */
+        private boolean modified = false;
+
+        /**
+         * Creates a new exchange transaction for the given player.
+         *
+         * @param player The player whose inventory is being modified.
+         *
+         * @since 2.3.0
+         */
+        public ExchangeTransaction(PlayerEntity player) {
+            this(player, player.getInventory(), CurrencySnapshot.get());
+        }
+
+        /**
+         * Creates a new exchange transaction for the given inventory, using the given currencies.
+         * <p>
+         * The player is only used to drop items that do not fit within the inventory and to roll rewards, so it may be
+         * {@code null} when neither is needed, such as within benchmarks. Without a player, any items that do not fit
+         * are discarded and no rewards are rolled.
+         *
+         * @param player The player whose inventory is being modified.
+         * @param inventory The player's inventory.
+         * @param currencies The currencies used by this transaction.
+         *
+         * @since 2.3.0
+         */
+        public ExchangeTransaction(
+            @Nullable PlayerEntity player, PlayerInventory inventory, CurrencySnapshot currencies
+        ) {
+            this.player = player;
+            this.inventory = inventory;
+            this.currencies = currencies;
+            this.original = new ItemStack[this.inventory.size()];
+            this.stacks = new ItemStack[this.original.length];
+            this.counts = new int[this.original.length];
+
+            for (int slot = 0; slot < this.original.length; slot += 1) {
+                final ItemStack stack = this.inventory.getStack(slot);
+
+                this.original[slot] = stack;
+                this.stacks[slot] = stack.isEmpty() ? ItemStack.EMPTY : stack;
+                this.counts[slot] = stack.isEmpty() ? 0 : stack.getCount();
+            }
+        }
+
+        /**
+         * Returns the player whose inventory is being modified.
+         *
+         * @return The player whose inventory is being modified, or {@code null} if it has no player.
+         *
+         * @since 2.3.0
+         */
+        public @Nullable PlayerEntity getPlayer() {
+            return this.player;
+        }
+
+        /**
+         * Returns the currencies that were loaded when the transaction was created.
+         * <p>
+         * These are used for the entire transaction, even if a data reload occurs part-way through.
+         *
+         * @return The currencies used by this transaction.
+         *
+         * @since 2.3.0
+         */
+        public CurrencySnapshot getCurrencies() {
+            return this.currencies;
+        }
+
+        /**
+         * Returns the number of slots within this transaction.
+         *
+         * @return The number of slots within this transaction.
+         *
+         * @since 2.3.0
+         */
+        public int size() {
+            return this.counts.length;
+        }
+
+        /**
+         * Returns the stack that is planned to be held within the given slot.
+         * <p>
+         * The returned stack must not be modified, and its count should be ignored in favor of
+         * {@link #getCount(int)}.
+         *
+         * @param slot The slot index.
+         *
+         * @return The stack that is planned to be held within the given slot.
+         *
+         * @since 2.3.0
+         */
+        public ItemStack getStack(int slot) {
+            return this.stacks[slot];
+        }
+
+        /**
+         * Returns the count that is planned to be held within the given slot.
+         *
+         * @param slot The slot index.
+         *
+         * @return The count that is planned to be held within the given slot.
+         *
+         * @since 2.3.0
+         */
+        public int getCount(int slot) {
+            return this.counts[slot];
+        }
+
+        /**
+         * Plans the removal of up to the given number of items that match the given predicate.
+         * <p>
+         * Slots are drained in order, in the same way as {@link PlayerInventory#remove}.
+         *
+         * @param predicate The stack predicate.
+         * @param maxCount The maximum number of items to remove.
+         *
+         * @return The number of items planned to be removed.
+         *
+         * @since 2.3.0
+         */
+        public int remove(Predicate<ItemStack> predicate, int maxCount) {
+            int removed = 0;
+
+            for (int slot = 0; slot < this.counts.length && removed < maxCount; slot += 1) {
+                if (this.counts[slot] == 0 || !predicate.test(this.stacks[slot])) continue;
+
+                final int count = Math.min(maxCount - removed, this.counts[slot]);
+
+                this.counts[slot] -= count;
+                removed += count;
+
+                if (this.counts[slot] == 0) this.stacks[slot] = ItemStack.EMPTY;
+            }
+
+            if (removed > 0) this.modified = true;
+
+            return removed;
+        }
+
+        /**
+         * Plans the insertion of the given stack, dropping anything that does not fit.
+         *
+         * @param stack The stack to insert. This is not modified.
+         *
+         * @since 2.3.0
+         */
+        public void offer(ItemStack stack) {
+            if (stack.isEmpty()) return;
+
+            int remaining = stack.getCount();
+
+            while (remaining > 0) {
+                int slot = this.getOccupiedSlotWithRoomForStack(stack);
+
+                if (slot == -1) slot = this.getEmptySlot();
+                if (slot == -1) {
+                    this.dropped.add(stack.copyWithCount(remaining));
+
+                    break;
+                }
+
+                if (this.counts[slot] == 0) this.stacks[slot] = stack;
+
+                final ItemStack held = this.stacks[slot];
+                final int limit = Math.min(held.getMaxCount(), this.inventory.getMaxCountPerStack());
+                final int count = Math.min(remaining, limit - this.counts[slot]);
+
+                this.counts[slot] += count;
+                remaining -= count;
+            }
+
+            this.modified = true;
+        }
+
+        /**
+         * Returns the index of the first slot that can hold more of the given stack, or {@code -1}.
+         * <p>
+         * This matches the order of {@link PlayerInventory#getOccupiedSlotWithRoomForStack(ItemStack)}.
+         *
+         * @param stack The stack.
+         *
+         * @return The index of the first slot that can hold more of the given stack.
+         *
+         * @since 2.3.0
+         */
+        private int getOccupiedSlotWithRoomForStack(ItemStack stack) {
+            if (this.canStackAddMore(this.inventory.selectedSlot, stack)) return this.inventory.selectedSlot;
+            if (this.canStackAddMore(PlayerInventory.OFF_HAND_SLOT, stack)) return PlayerInventory.OFF_HAND_SLOT;
+
+            for (int slot = 0; slot < PlayerInventory.MAIN_SIZE; slot += 1) {
+                if (this.canStackAddMore(slot, stack)) return slot;
+            }
+
+            return -1;
+        }
+
+        /**
+         * Returns the index of the first empty main inventory slot, or {@code -1}.
+         *
+         * @return The index of the first empty main inventory slot.
+         *
+         * @since 2.3.0
+         */
+        private int getEmptySlot() {
+            for (int slot = 0; slot < PlayerInventory.MAIN_SIZE; slot += 1) {
+                if (this.counts[slot] == 0) return slot;
+            }
+
+            return -1;
+        }
+
+        /**
+         * Returns whether the given slot can hold more of the given stack.
+         *
+         * @param slot The slot index.
+         * @param stack The stack.
+         *
+         * @return Whether the given slot can hold more of the given stack.
+         *
+         * @since 2.3.0
+         */
+        private boolean canStackAddMore(int slot, ItemStack stack) {
+            final ItemStack held = this.stacks[slot];
+            final int count = this.counts[slot];
+
+            if (count == 0 || !held.isStackable() || !ItemStack.canCombine(held, stack)) return false;
+
+            return count < held.getMaxCount() && count < this.inventory.getMaxCountPerStack();
+        }
+
+        /**
+         * Applies all planned changes to the player's inventory in a single pass.
+         * <p>
+         * Stacks that are still held within their original slots are resized in place, and the inventory is only
+         * marked as dirty once.
+         *
+         * @since 2.3.0
+         */
+        public void apply() {
+            if (!this.modified) return;
+
+            for (int slot = 0; slot < this.counts.length; slot += 1) {
+                final ItemStack original = this.original[slot];
+                final ItemStack stack = this.stacks[slot];
+                final int count = this.counts[slot];
+
+                if (count == 0) {
+                    if (!original.isEmpty()) this.inventory.setStack(slot, ItemStack.EMPTY);
+                } else if (stack == original) {
+                    if (original.getCount() != count) original.setCount(count);
+                } else {
+                    this.inventory.setStack(slot, stack.copyWithCount(count));
+                }
+            }
+
+            if (this.player != null) {
+                for (final ItemStack stack : this.dropped) {
+                    this.player.dropItem(stack, false);
+                }
+            }
+
+            this.inventory.markDirty();
+            this.modified = false;
+        }
+
+    }
+
+    /**
+     * An immutable snapshot of all loaded currency data and its derived indices.
+     * <p>
+     * Snapshots are built in their entirety off of the server thread during a data reload, and are then published with
+     * a single volatile write. Readers should retrieve the current snapshot once and use it for the duration of an
+     * operation, ensuring that they never observe a partially loaded set of currencies.
+     *
+     * @author Jaxydog
+     * @since 2.3.0
+     */
+    final class CurrencySnapshot {
+
+        /**
+         * A snapshot that contains no currencies.
+         *
+         * @since 2.3.0
+         */
+        public static final CurrencySnapshot EMPTY = new CurrencySnapshot(
+            new CurrencyMap<>(),
+            new CurrencyMap<>(),
+            new CurrencyMap<>()
+        );
+
+        /**
+         * The currently published snapshot.
+         *
+         * @since 2.3.0
+         */
+        private static volatile CurrencySnapshot current = EMPTY;
+
+        /**
+         * The loaded currency units.
+         *
+         * @since 2.3.0
+         */
+        private final CurrencyMap<Unit> units;
+        /**
+         * The loaded currency rewards.
+         *
+         * @since 2.3.0
+         */
+        private final CurrencyMap<Reward> rewards;
+        /**
+         * The loaded currency skeletons.
+         *
+         * @since 2.3.0
+         */
+        private final CurrencyMap<Skeleton> skeletons;
+        /**
+         * The compiled exchanges between all loaded units.
+         *
+         * @since 2.3.0
+         */
+        private final ExchangeGraph exchanges;
+        /**
+         * The compiled solver for all loaded skeletons.
+         *
+         * @since 2.3.0
+         */
+        private final SkeletonSolver solver;
+        /**
+         * The compiled sampler for all loaded rewards.
+         *
+         * @since 2.3.0
+         */
+        private final RewardSampler sampler;
+
+        /**
+         * Creates a new currency snapshot, compiling all derived indices.
+         *
+         * @param units The loaded currency units.
+         * @param rewards The loaded currency rewards.
+         * @param skeletons The loaded currency skeletons.
+         *
+         * @since 2.3.0
+         */
+        public CurrencySnapshot(CurrencyMap<Unit> units, CurrencyMap<Reward> rewards, CurrencyMap<Skeleton> skeletons) {
+            this.units = units;
+            this.rewards = rewards;
+            this.skeletons = skeletons;
+            this.exchanges = ExchangeGraph.compile(units);
+            this.solver = SkeletonSolver.compile(rewards, skeletons);
+            this.sampler = RewardSampler.compile(rewards);
+        }
+
+        /**
+         * Returns the currently published snapshot.
+         *
+         * @return The currently published snapshot.
+         *
+         * @since 2.3.0
+         */
+        public static CurrencySnapshot get() {
+            return current;
+        }
+
+        /**
+         * Publishes the given snapshot, replacing the current snapshot.
+         *
+         * @param snapshot The snapshot.
+         *
+         * @since 2.3.0
+         */
+        public static void publish(CurrencySnapshot snapshot) {
+            current = snapshot;
+        }
+
+        /**
+         * Returns the loaded currency units.
+         *
+         * @return The loaded currency units.
+         *
+         * @since 2.3.0
+         */
+        public CurrencyMap<Unit> units() {
+            return this.units;
+        }
+
+        /**
+         * Returns the loaded currency rewards.
+         *
+         * @return The loaded currency rewards.
+         *
+         * @since 2.3.0
+         */
+        public CurrencyMap<Reward> rewards() {
+            return this.rewards;
+        }
+
+        /**
+         * Returns the loaded currency skeletons.
+         *
+         * @return The loaded currency skeletons.
+         *
+         * @since 2.3.0
+         */
+        public CurrencyMap<Skeleton> skeletons() {
+            return this.skeletons;
+        }
+
+        /**
+         * Returns the compiled exchanges between all loaded units.
+         *
+         * @return The compiled exchanges.
+         *
+         * @since 2.3.0
+         */
+        public ExchangeGraph exchanges() {
+            return this.exchanges;
+        }
+
+        /**
+         * Returns the compiled solver for all loaded skeletons.
+         *
+         * @return The compiled skeleton solver.
+         *
+         * @since 2.3.0
+         */
+        public SkeletonSolver solver() {
+            return this.solver;
+        }
+
+        /**
+         * Returns the compiled sampler for all loaded rewards.
+         *
+         * @return The compiled reward sampler.
+         *
+         * @since 2.3.0
+         */
+        public RewardSampler sampler() {
+            return this.sampler;
+        }
+
+    }
+
 }
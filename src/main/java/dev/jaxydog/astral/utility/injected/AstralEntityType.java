@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.utility.injected;
+
+/**
+ * Extends the {@link net.minecraft.entity.EntityType} class.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public interface AstralEntityType {
+
+    /**
+     * Returns whether this entity type is eligible for challenge scaling.
+     * <p>
+     * This is cached from the {@link dev.jaxydog.astral.utility.ChallengeHelper#SCALED_ENTITIES} tag whenever tags are
+     * loaded.
+     *
+     * @return Whether this entity type is scaled.
+     *
+     * @since 2.3.0
+     */
+    boolean astral$isChallengeScaled();
+
+    /**
+     * Sets whether this entity type is eligible for challenge scaling.
+     *
+     * @param scaled Whether this entity type is scaled.
+     *
+     * @since 2.3.0
+     */
+    void astral$setChallengeScaled(boolean scaled);
+
+}
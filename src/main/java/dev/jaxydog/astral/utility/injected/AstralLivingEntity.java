@@ -14,6 +14,11 @@
 
 package dev.jaxydog.astral.utility.injected;
 
+import dev.jaxydog.astral.content.power.custom.ActionOnSprayPower;
+import dev.jaxydog.astral.content.power.custom.ActionWhenSprayedPower;
+
+import java.util.List;
+
 /**
  * Extends the {@link net.minecraft.entity.LivingEntity} class.
  *
@@ -44,4 +49,37 @@ public interface AstralLivingEntity {
         return false;
     }
 
+    /**
+     * Returns all of this entity's {@link ActionOnSprayPower}s, including inactive powers, sorted by descending
+     * priority.
+     * <p>
+     * The returned list is cached until this entity gains or loses a power, so callers must check whether each power is
+     * active before using it.
+     *
+     * @return An immutable list of powers.
+     *
+     * @since 2.3.0
+     */
+    List<ActionOnSprayPower> astral$getOnSprayPowers();
+
+    /**
+     * Returns all of this entity's {@link ActionWhenSprayedPower}s, including inactive powers, sorted by descending
+     * priority.
+     * <p>
+     * The returned list is cached until this entity gains or loses a power, so callers must check whether each power is
+     * active before using it.
+     *
+     * @return An immutable list of powers.
+     *
+     * @since 2.3.0
+     */
+    List<ActionWhenSprayedPower> astral$getWhenSprayedPowers();
+
+    /**
+     * Invalidates this entity's cached spray powers, causing them to be collected again on their next use.
+     *
+     * @since 2.3.0
+     */
+    void astral$invalidateSprayPowers();
+
 }
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.utility.injected;
+
+/**
+ * Extends the {@link net.minecraft.entity.player.PlayerInventory} class.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public interface AstralPlayerInventory {
+
+    /**
+     * Returns this inventory's modification stamp.
+     * <p>
+     * The stamp is incremented every time the inventory's contents may have been changed.
+     *
+     * @return The modification stamp.
+     *
+     * @since 2.3.0
+     */
+    int astral$getModificationStamp();
+
+    /**
+     * Marks this inventory as modified, incrementing its modification stamp.
+     *
+     * @since 2.3.0
+     */
+    void astral$markModified();
+
+    /**
+     * Returns whether this inventory has been modified since its last currency exchange.
+     *
+     * @return Whether this inventory has a pending currency exchange.
+     *
+     * @since 2.3.0
+     */
+    boolean astral$hasPendingExchange();
+
+    /**
+     * Marks the inventory's current contents as exchanged.
+     *
+     * @since 2.3.0
+     */
+    void astral$markExchanged();
+
+}
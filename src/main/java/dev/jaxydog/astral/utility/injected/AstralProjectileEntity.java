@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.utility.injected;
+
+/**
+ * Extends the {@link net.minecraft.entity.projectile.ProjectileEntity} class.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public interface AstralProjectileEntity {
+
+    /**
+     * Returns the scaled attack additive captured from this projectile's owner.
+     * <p>
+     * The additive is captured whenever the projectile's owner is set, and is persisted within the projectile's NBT,
+     * so it remains the same even if the owner dies or is unloaded.
+     *
+     * @return The captured attack additive.
+     *
+     * @since 2.3.0
+     */
+    float astral$getChallengeAttack();
+
+}
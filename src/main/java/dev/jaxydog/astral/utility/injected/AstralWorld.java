@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: AGPL-3.0-or-later
+ *
+ * Copyright © 2024 Jaxydog
+ *
+ * This file is part of Astral.
+ *
+ * Astral is free software: you can redistribute it and/or modify it under the terms of the GNU Affero General Public License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later version.
+ *
+ * Astral is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License along with Astral. If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.jaxydog.astral.utility.injected;
+
+import dev.jaxydog.astral.utility.ChallengeHelper.ChallengeSettings;
+
+/**
+ * Extends the {@link net.minecraft.world.World} class.
+ *
+ * @author Jaxydog
+ * @since 2.3.0
+ */
+public interface AstralWorld {
+
+    /**
+     * Returns this world's current challenge settings.
+     * <p>
+     * The settings are built on first access, and are only rebuilt when {@link #astral$refreshChallengeSettings()} is
+     * called.
+     *
+     * @return The challenge settings.
+     *
+     * @since 2.3.0
+     */
+    ChallengeSettings astral$getChallengeSettings();
+
+    /**
+     * Rebuilds this world's challenge settings from its current gamerules and spawn position.
+     *
+     * @since 2.3.0
+     */
+    void astral$refreshChallengeSettings();
+
+}
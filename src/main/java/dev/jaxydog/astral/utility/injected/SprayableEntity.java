@@ -14,11 +14,14 @@
 
 package dev.jaxydog.astral.utility.injected;
 
+import dev.jaxydog.astral.content.listener.AstralListeners;
+import dev.jaxydog.astral.content.listener.custom.SprayFleePlanner;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.NoPenaltyTargeting;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.ai.pathing.Path;
 import net.minecraft.entity.mob.PathAwareEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.Nullable;
 
@@ -133,6 +136,10 @@ public interface SprayableEntity {
 
     /**
      * A goal that causes a sprayed entity to run away from its sprayer.
+     * <p>
+     * Flee path searches are coordinated through the {@link AstralListeners#SPRAY_FLEE_PLANNER}, which limits the
+     * number of searches performed within each world every tick and shares flee targets between nearby entities.
+     * Failed searches are retried after a short, randomized delay.
      *
      * @param <T> The entity type.
      *
@@ -140,6 +147,25 @@ public interface SprayableEntity {
      */
     class EscapeSprayGoal<T extends PathAwareEntity & SprayableEntity> extends Goal {
 
+        /**
+         * The minimum number of ticks to wait before retrying a failed search.
+         *
+         * @since 2.3.0
+         */
+        public static final int RETRY_DELAY = 10;
+        /**
+         * The maximum number of additional ticks to randomly wait before retrying a failed search.
+         *
+         * @since 2.3.0
+         */
+        public static final int RETRY_JITTER = 10;
+        /**
+         * The maximum number of ticks to wait before retrying a search that was deferred by the world's budget.
+         *
+         * @since 2.3.0
+         */
+        public static final int DEFER_JITTER = 3;
+
         /**
          * The entity instance.
          *
@@ -159,6 +185,12 @@ public interface SprayableEntity {
          * @since 1.6.0
          */
         protected @Nullable Path path;
+        /**
+         * The entity age at which the next path search may be attempted.
+         *
+         * @since 2.3.0
+         */
+        protected int nextSearchAge = 0;
 
         /**
          * Creates a new {@link EscapeSprayGoal}.
@@ -175,6 +207,32 @@ public interface SprayableEntity {
             this.setControls(EnumSet.of(Goal.Control.MOVE));
         }
 
+        /**
+         * Delays the next path search by the given number of ticks, plus a random amount of jitter.
+         *
+         * @param delay The minimum number of ticks to wait.
+         * @param jitter The maximum number of additional ticks to wait.
+         *
+         * @since 2.3.0
+         */
+        protected void delaySearch(int delay, int jitter) {
+            this.nextSearchAge = this.entity.age + delay + this.entity.getRandom().nextInt(jitter + 1);
+        }
+
+        /**
+         * Returns whether running towards the given target would move the entity away from the given source.
+         *
+         * @param source The spray source.
+         * @param target The flee target.
+         *
+         * @return Whether the target is a valid flee target.
+         *
+         * @since 2.3.0
+         */
+        protected boolean isFleeTarget(LivingEntity source, Vec3d target) {
+            return source.squaredDistanceTo(target) >= source.squaredDistanceTo(this.entity);
+        }
+
         /**
          * Attempts to find a location to run towards.
          *
@@ -185,24 +243,45 @@ public interface SprayableEntity {
         protected boolean findTarget() {
             final LivingEntity source = this.entity.astral$getSpraySource();
 
-            if (source == null) return false;
+            if (source == null || !(this.entity.getWorld() instanceof final ServerWorld world)) return false;
 
-            final Vec3d target = NoPenaltyTargeting.findFrom(this.entity, 16, 7, source.getPos());
+            final SprayFleePlanner planner = AstralListeners.SPRAY_FLEE_PLANNER;
 
-            if (target == null) return false;
+            if (!planner.tryReserveSearch(world)) {
+                this.delaySearch(1, DEFER_JITTER);
+
+                return false;
+            }
+
+            Vec3d target = planner.getSharedTarget(world, source, this.entity);
+            final boolean shared = target != null && this.isFleeTarget(source, target);
+
+            if (!shared) target = NoPenaltyTargeting.findFrom(this.entity, 16, 7, source.getPos());
+
+            if (target == null || !this.isFleeTarget(source, target)) {
+                this.delaySearch(RETRY_DELAY, RETRY_JITTER);
 
-            if ((source).squaredDistanceTo(target.x, target.y, target.z) < source.squaredDistanceTo(this.entity)) {
                 return false;
             }
 
             this.path = this.entity.getNavigation().findPathTo(target.getX(), target.getY(), target.getZ(), 0);
 
-            return this.path != null;
+            if (this.path == null) {
+                this.delaySearch(RETRY_DELAY, RETRY_JITTER);
+
+                return false;
+            }
+
+            if (!shared) planner.shareTarget(world, source, this.entity, target);
+
+            return true;
         }
 
         @Override
         public boolean canStart() {
-            return this.entity.astral$isSprayed() && this.findTarget();
+            if (!this.entity.astral$isSprayed() || this.entity.age < this.nextSearchAge) return false;
+
+            return this.findTarget();
         }
 
         @Override